@@ -0,0 +1,113 @@
+package com.selenium.benchmarks;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import com.selenium.tests.BrowserProfile;
+import com.selenium.tests.BrowserType;
+import com.selenium.tests.DriverBinaries;
+import com.selenium.tests.FixtureServer;
+
+/**
+ * Measures the cost of the seven {@link By} strategies used by TestCase3, for both
+ * {@code findElement} and {@code findElements}, against a headless browser (fast profile)
+ * and the practice page served by the embedded {@link FixtureServer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.SampleTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+    
+    @Param({"id", "name", "className", "tagName", "cssSelector", "linkText", "partialLinkText"})
+    public String strategy;
+    
+    @Param({"chrome"})
+    public String browser;
+    
+    private WebDriver driver;
+    private By locator;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        locator = locatorFor(strategy);
+        driver = createDriver(BrowserType.valueOf(browser.toUpperCase(Locale.ROOT)));
+        driver.get(FixtureServer.shared().url(FixtureServer.PRACTICE_PATH));
+        driver.findElement(locator);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (driver != null) {
+            driver.quit();
+        }
+        FixtureServer.stopShared();
+    }
+    
+    @Benchmark
+    public WebElement findElement() {
+        return driver.findElement(locator);
+    }
+    
+    @Benchmark
+    public List<WebElement> findElements() {
+        return driver.findElements(locator);
+    }
+    
+    static By locatorFor(String strategy) {
+        switch (strategy) {
+            case "id":
+                return By.id("checkBoxOption1");
+            case "name":
+                return By.name("radioButton");
+            case "className":
+                return By.className("radio1");
+            case "tagName":
+                return By.tagName("input");
+            case "cssSelector":
+                return By.cssSelector("input[type='radio']");
+            case "linkText":
+                return By.linkText("Home");
+            case "partialLinkText":
+                return By.partialLinkText("Courses");
+            default:
+                throw new IllegalArgumentException("Unknown locator strategy: " + strategy);
+        }
+    }
+    
+    private static WebDriver createDriver(BrowserType browserType) {
+        DriverBinaries.ensure(browserType);
+        if (browserType == BrowserType.FIREFOX) {
+            FirefoxOptions options = new FirefoxOptions();
+            BrowserProfile.FAST.configure(options);
+            return new FirefoxDriver(options);
+        }
+        ChromeOptions options = new ChromeOptions();
+        BrowserProfile.FAST.configure(options);
+        return new ChromeDriver(options);
+    }
+}
@@ -0,0 +1,98 @@
+package com.selenium.tests;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * The single explicit wait used by the test helpers. Polling starts at
+ * {@code wait.initialPollMs} and doubles up to {@code wait.maxPollMs}, so conditions that are
+ * already true cost one check while slow ones do not flood the driver. Creating a wait turns
+ * the implicit wait of the session off, because combining both multiplies timeouts. Time spent
+ * in every wait is recorded per condition and printed at suite end.
+ */
+public class AdaptiveWait {
+    
+    private static final long INITIAL_POLL_MS = Math.max(1, TestConfig.intProperty("wait.initialPollMs", 10));
+    private static final long MAX_POLL_MS = Math.max(INITIAL_POLL_MS, TestConfig.intProperty("wait.maxPollMs", 500));
+    
+    private static final Map<String, LatencyHistogram> WAIT_TIMES = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> TIMEOUTS = new ConcurrentHashMap<>();
+    
+    private final WebDriver driver;
+    private final Duration timeout;
+    
+    public AdaptiveWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+    }
+    
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        String label = condition.toString();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollMillis = INITIAL_POLL_MS;
+        RuntimeException lastError = null;
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    record(WAIT_TIMES, label, start);
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+            if (System.nanoTime() >= deadline) {
+                record(TIMEOUTS, label, start);
+                throw new TimeoutException("Expected condition failed: waiting for " + label +
+                        " (tried for " + timeout.toMillis() + " ms with adaptive polling)", lastError);
+            }
+            sleep(Math.min(pollMillis, Math.max(1, (deadline - System.nanoTime()) / 1_000_000L)));
+            pollMillis = Math.min(pollMillis * 2, MAX_POLL_MS);
+        }
+    }
+    
+    public static void printSummary() {
+        if (WAIT_TIMES.isEmpty() && TIMEOUTS.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== Wait Time Summary (slowest first) ===");
+        printHistograms(WAIT_TIMES, "");
+        printHistograms(TIMEOUTS, " [TIMED OUT]");
+    }
+    
+    private static void printHistograms(Map<String, LatencyHistogram> histograms, String suffix) {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingLong(
+                (Map.Entry<String, LatencyHistogram> e) -> e.getValue().totalNanos()).reversed());
+        for (Map.Entry<String, LatencyHistogram> entry : entries) {
+            System.out.println(entry.getKey() + suffix + ": " + entry.getValue().summary());
+        }
+    }
+    
+    private static void record(Map<String, LatencyHistogram> histograms, String label, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        histograms.computeIfAbsent(label, key -> new LatencyHistogram()).record(elapsed);
+        ProfileBaseline.recordWait(elapsed);
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.selenium.tests;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * Resolves a list of {@link By} locators with a single script execution instead of one
+ * {@code findElement} command per locator. Each locator yields its match count and its first
+ * match. Locators that cannot be expressed as W3C locator parameters fall back to a regular
+ * {@code findElements} call.
+ */
+public final class BatchLocator {
+    
+    static final String FIND_FUNCTION =
+        "function __find(spec) {" +
+        "  var v = spec.value;" +
+        "  switch (spec.using) {" +
+        "    case 'css selector': return Array.prototype.slice.call(document.querySelectorAll(v));" +
+        "    case 'id': return Array.prototype.slice.call(document.querySelectorAll('#' + CSS.escape(v)));" +
+        "    case 'name': return Array.prototype.slice.call(document.getElementsByName(v));" +
+        "    case 'class name': return Array.prototype.slice.call(document.getElementsByClassName(v));" +
+        "    case 'tag name': return Array.prototype.slice.call(document.getElementsByTagName(v));" +
+        "    case 'xpath':" +
+        "      var snapshot = document.evaluate(v, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+        "      var nodes = [];" +
+        "      for (var i = 0; i < snapshot.snapshotLength; i++) { nodes.push(snapshot.snapshotItem(i)); }" +
+        "      return nodes;" +
+        "    case 'link text':" +
+        "    case 'partial link text':" +
+        "      return Array.prototype.filter.call(document.getElementsByTagName('a'), function(a) {" +
+        "        var text = (a.innerText || a.textContent || '').replace(/\\s+/g, ' ').trim();" +
+        "        return spec.using === 'link text' ? text === v : text.indexOf(v) >= 0; });" +
+        "  }" +
+        "  throw new Error('Unsupported locator strategy: ' + spec.using);" +
+        "}";
+    
+    private static final String LOCATE_SCRIPT = FIND_FUNCTION +
+        "var specs = arguments[0], out = [];" +
+        "for (var i = 0; i < specs.length; i++) {" +
+        "  var found = __find(specs[i]);" +
+        "  out.push({ count: found.length, elements: found.slice(0, 1) });" +
+        "}" +
+        "return out;";
+    
+    private BatchLocator() {
+    }
+    
+    public static Result locate(WebDriver driver, List<By> locators) {
+        List<By> scripted = new ArrayList<>();
+        List<Map<String, Object>> specs = new ArrayList<>();
+        Map<By, Found> found = new LinkedHashMap<>();
+        for (By locator : locators) {
+            Map<String, Object> spec = toSpec(locator);
+            if (spec == null) {
+                List<WebElement> elements = driver.findElements(locator);
+                found.put(locator, new Found(elements.size(), elements.isEmpty() ? elements : elements.subList(0, 1)));
+            } else {
+                scripted.add(locator);
+                specs.add(spec);
+            }
+        }
+        if (!specs.isEmpty()) {
+            List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(LOCATE_SCRIPT, specs);
+            for (int i = 0; i < scripted.size(); i++) {
+                Map<?, ?> result = (Map<?, ?>) results.get(i);
+                List<WebElement> elements = new ArrayList<>();
+                for (Object element : (List<?>) result.get("elements")) {
+                    elements.add((WebElement) element);
+                }
+                found.put(scripted.get(i), new Found(((Number) result.get("count")).intValue(), elements));
+            }
+        }
+        return new Result(found);
+    }
+    
+    public static ExpectedCondition<Result> allPresent(List<By> locators) {
+        return new ExpectedCondition<Result>() {
+            @Override
+            public Result apply(WebDriver driver) {
+                Result result = locate(driver, locators);
+                for (By locator : locators) {
+                    if (result.count(locator) == 0) {
+                        return null;
+                    }
+                }
+                return result;
+            }
+            
+            @Override
+            public String toString() {
+                return "presence of all elements located by: " + locators;
+            }
+        };
+    }
+    
+    static Map<String, Object> toSpec(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        Map<String, Object> spec = new HashMap<>();
+        spec.put("using", parameters.using());
+        spec.put("value", parameters.value());
+        return spec;
+    }
+    
+    private static final class Found {
+        
+        final int count;
+        final List<WebElement> elements;
+        
+        Found(int count, List<WebElement> elements) {
+            this.count = count;
+            this.elements = Collections.unmodifiableList(elements);
+        }
+    }
+    
+    public static final class Result {
+        
+        private final Map<By, Found> found;
+        
+        private Result(Map<By, Found> found) {
+            this.found = found;
+        }
+        
+        public int count(By locator) {
+            return lookup(locator).count;
+        }
+        
+        public WebElement first(By locator) {
+            List<WebElement> elements = lookup(locator).elements;
+            if (elements.isEmpty()) {
+                throw new NoSuchElementException("Unable to locate element: " + locator);
+            }
+            return elements.get(0);
+        }
+        
+        private Found lookup(By locator) {
+            Found result = found.get(locator);
+            if (result == null) {
+                throw new IllegalArgumentException("Locator was not part of the batch: " + locator);
+            }
+            return result;
+        }
+    }
+}
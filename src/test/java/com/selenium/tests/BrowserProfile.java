@@ -0,0 +1,126 @@
+package com.selenium.tests;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * Named launch profiles for Chrome and Firefox, selected with {@code -Dbrowser.profile}.
+ * {@code default} keeps the headed, maximized browser; {@code fast} runs headless with a fixed
+ * {@code browser.windowSize} viewport, no extensions, no background networking and no first-run
+ * work, and skips image loading when {@code browser.images=false}.
+ */
+public enum BrowserProfile {
+    
+    DEFAULT {
+        @Override
+        public void configure(ChromeOptions options) {
+            options.addArguments("--start-maximized");
+        }
+        
+        @Override
+        public void configure(FirefoxOptions options) {
+        }
+        
+        @Override
+        public void prepareWindow(WebDriver driver) {
+            driver.manage().window().maximize();
+        }
+    },
+    
+    FAST {
+        @Override
+        public void configure(ChromeOptions options) {
+            options.addArguments(
+                "--headless=new",
+                "--window-size=" + WINDOW_WIDTH + "," + WINDOW_HEIGHT,
+                "--disable-extensions",
+                "--disable-background-networking",
+                "--disable-component-update",
+                "--disable-default-apps",
+                "--disable-sync",
+                "--no-first-run",
+                "--no-default-browser-check",
+                "--mute-audio");
+            if (!IMAGES) {
+                Map<String, Object> prefs = new HashMap<>();
+                prefs.put("profile.managed_default_content_settings.images", 2);
+                options.setExperimentalOption("prefs", prefs);
+            }
+        }
+        
+        @Override
+        public void configure(FirefoxOptions options) {
+            options.addArguments("-headless", "--width=" + WINDOW_WIDTH, "--height=" + WINDOW_HEIGHT);
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("app.update.auto", false);
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+            options.addPreference("browser.startup.homepage_override.mstone", "ignore");
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.reportingpolicy.firstRun", false);
+            options.addPreference("browser.safebrowsing.malware.enabled", false);
+            options.addPreference("browser.safebrowsing.phishing.enabled", false);
+            options.addPreference("network.prefetch-next", false);
+            if (!IMAGES) {
+                options.addPreference("permissions.default.image", 2);
+            }
+        }
+        
+        @Override
+        public void prepareWindow(WebDriver driver) {
+            driver.manage().window().setSize(new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT));
+        }
+    };
+    
+    private static final boolean IMAGES = TestConfig.booleanProperty("browser.images", true);
+    private static final int WINDOW_WIDTH;
+    private static final int WINDOW_HEIGHT;
+    private static final BrowserProfile ACTIVE = parse(TestConfig.stringProperty("browser.profile", "default"));
+    
+    static {
+        String size = TestConfig.stringProperty("browser.windowSize", "1366x768");
+        int width = 1366;
+        int height = 768;
+        String[] parts = size.toLowerCase(Locale.ROOT).split("x");
+        try {
+            if (parts.length == 2) {
+                width = Integer.parseInt(parts[0].trim());
+                height = Integer.parseInt(parts[1].trim());
+            } else {
+                System.out.println("⚠ Invalid browser.windowSize '" + size + "', using 1366x768");
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("⚠ Invalid browser.windowSize '" + size + "', using 1366x768");
+        }
+        WINDOW_WIDTH = width;
+        WINDOW_HEIGHT = height;
+    }
+    
+    public static BrowserProfile active() {
+        return ACTIVE;
+    }
+    
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+    
+    public abstract void configure(ChromeOptions options);
+    
+    public abstract void configure(FirefoxOptions options);
+    
+    public abstract void prepareWindow(WebDriver driver);
+    
+    private static BrowserProfile parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.out.println("⚠ Unknown browser.profile '" + value + "', using default");
+            return DEFAULT;
+        }
+    }
+}
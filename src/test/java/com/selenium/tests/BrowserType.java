@@ -0,0 +1,66 @@
+package com.selenium.tests;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+public enum BrowserType {
+    
+    CHROME("Chrome", "chromedriver", "webdriver.chrome.driver") {
+        @Override
+        public WebDriverManager driverManager() {
+            return WebDriverManager.chromedriver();
+        }
+        
+        @Override
+        public WebDriver createDriver() {
+            ChromeOptions options = new ChromeOptions();
+            BrowserProfile.active().configure(options);
+            return LocalGrid.enabled() ? LocalGrid.createDriver(this, options) : new ChromeDriver(options);
+        }
+    },
+    
+    FIREFOX("Firefox", "geckodriver", "webdriver.gecko.driver") {
+        @Override
+        public WebDriverManager driverManager() {
+            return WebDriverManager.firefoxdriver();
+        }
+        
+        @Override
+        public WebDriver createDriver() {
+            FirefoxOptions options = new FirefoxOptions();
+            BrowserProfile.active().configure(options);
+            return LocalGrid.enabled() ? LocalGrid.createDriver(this, options) : new FirefoxDriver(options);
+        }
+    };
+    
+    private final String displayName;
+    private final String driverBinaryName;
+    private final String driverPathProperty;
+    
+    BrowserType(String displayName, String driverBinaryName, String driverPathProperty) {
+        this.displayName = displayName;
+        this.driverBinaryName = driverBinaryName;
+        this.driverPathProperty = driverPathProperty;
+    }
+    
+    public String displayName() {
+        return displayName;
+    }
+    
+    public String driverBinaryName() {
+        return driverBinaryName;
+    }
+    
+    public String driverPathProperty() {
+        return driverPathProperty;
+    }
+    
+    public abstract WebDriverManager driverManager();
+    
+    public abstract WebDriver createDriver();
+}
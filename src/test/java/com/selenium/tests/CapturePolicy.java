@@ -0,0 +1,103 @@
+package com.selenium.tests;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Decides which screenshot requests are actually captured, selected per run with
+ * {@code -Dscreenshot.policy}. {@code always} captures every step; {@code on-failure} keeps the
+ * last {@code screenshot.ring} frames of a test in memory and writes them only when the test
+ * fails; {@code every-nth} captures every {@code screenshot.every}-th request of a session;
+ * {@code on-change} captures only when a cheap in-page fingerprint (URL, scroll position, DOM
+ * mutation count and form control state) changed since the session's last capture. Failure
+ * screenshots are captured under every policy.
+ */
+public enum CapturePolicy {
+    
+    ALWAYS {
+        @Override
+        public boolean shouldCapture(WebDriver driver) {
+            return true;
+        }
+    },
+    
+    ON_FAILURE {
+        @Override
+        public boolean shouldCapture(WebDriver driver) {
+            return RING_SIZE > 0;
+        }
+    },
+    
+    EVERY_NTH {
+        @Override
+        public boolean shouldCapture(WebDriver driver) {
+            synchronized (REQUESTS) {
+                int request = REQUESTS.getOrDefault(driver, 0);
+                REQUESTS.put(driver, request + 1);
+                return request % EVERY == 0;
+            }
+        }
+    },
+    
+    ON_CHANGE {
+        @Override
+        public boolean shouldCapture(WebDriver driver) {
+            String fingerprint;
+            try {
+                fingerprint = String.valueOf(((JavascriptExecutor) driver).executeScript(FINGERPRINT_SCRIPT));
+            } catch (WebDriverException e) {
+                return true;
+            }
+            return !fingerprint.equals(FINGERPRINTS.put(driver, fingerprint));
+        }
+    };
+    
+    static final int RING_SIZE = Math.max(0, TestConfig.intProperty("screenshot.ring", 5));
+    
+    private static final int EVERY = Math.max(1, TestConfig.intProperty("screenshot.every", 5));
+    
+    private static final String FINGERPRINT_SCRIPT =
+        "var r = window.__readiness;" +
+        "var text = location.href + '|' + window.pageXOffset + ',' + window.pageYOffset + '|' +" +
+        "    (r ? r.mutations : document.getElementsByTagName('*').length);" +
+        "var controls = document.querySelectorAll('input, select, textarea');" +
+        "for (var i = 0; i < controls.length; i++) {" +
+        "  text += '|' + (controls[i].checked ? 1 : 0) + controls[i].value; }" +
+        "var hash = 0;" +
+        "for (var j = 0; j < text.length; j++) { hash = (hash * 31 + text.charCodeAt(j)) | 0; }" +
+        "return text.length + ':' + hash;";
+    
+    private static final Map<WebDriver, Integer> REQUESTS = new WeakHashMap<>();
+    private static final Map<WebDriver, String> FINGERPRINTS = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private static final CapturePolicy ACTIVE = parse(TestConfig.stringProperty("screenshot.policy", "always"));
+    
+    public static CapturePolicy active() {
+        return ACTIVE;
+    }
+    
+    public String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+    
+    public boolean buffersFrames() {
+        return this == ON_FAILURE;
+    }
+    
+    public abstract boolean shouldCapture(WebDriver driver);
+    
+    private static CapturePolicy parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            System.out.println("⚠ Unknown screenshot.policy '" + value + "', using always");
+            return ALWAYS;
+        }
+    }
+}
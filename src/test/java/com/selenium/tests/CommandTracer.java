@@ -0,0 +1,149 @@
+package com.selenium.tests;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * Records the latency of every WebDriver command (findElement, getAttribute, click, sendKeys,
+ * executeScript, getScreenshotAs, quit, ...) through an {@link EventFiringDecorator} applied to
+ * each session the {@link DriverPool} creates. Latencies are kept per command type and command
+ * counts per test, so chatty helpers stand out. Disable with {@code -Dtrace.commands=false}.
+ */
+public final class CommandTracer implements WebDriverListener {
+    
+    private static final boolean ENABLED = TestConfig.booleanProperty("trace.commands", true);
+    private static final String NO_TEST = "(outside tests)";
+    private static final Set<String> LOCAL_CALLS = new HashSet<>(Arrays.asList(
+        "manage", "switchTo", "navigate", "window", "timeouts", "getCapabilities",
+        "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals"));
+    
+    private static final CommandTracer INSTANCE = new CommandTracer();
+    
+    private static final Map<String, LatencyHistogram> COMMANDS = new ConcurrentHashMap<>();
+    private static final Map<String, TestCommands> TESTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> CURRENT_TEST = ThreadLocal.withInitial(() -> NO_TEST);
+    private static final ThreadLocal<Deque<Long>> STARTED = ThreadLocal.withInitial(ArrayDeque::new);
+    
+    private CommandTracer() {
+    }
+    
+    static WebDriverListener listener() {
+        return ENABLED ? INSTANCE : null;
+    }
+    
+    public static void testStarted(String testName) {
+        CURRENT_TEST.set(testName);
+    }
+    
+    public static void testFinished() {
+        CURRENT_TEST.remove();
+    }
+    
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            STARTED.get().push(System.nanoTime());
+        }
+    }
+    
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+        if (method.getName().equals("findElement")) {
+            reportLookup(args, 1, null);
+        } else if (method.getName().equals("findElements") && result instanceof List) {
+            reportLookup(args, ((List<?>) result).size(), null);
+        }
+    }
+    
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+        if (method.getName().equals("findElement")) {
+            reportLookup(args, 0, e.getCause());
+        }
+    }
+    
+    private static void reportLookup(Object[] args, int count, Throwable error) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("locator", args != null && args.length > 0 ? String.valueOf(args[0]) : "");
+        fields.put("found", count > 0);
+        fields.put("count", count);
+        if (error != null) {
+            fields.put("error", error.getClass().getSimpleName());
+        }
+        RunReport.event("element", fields);
+    }
+    
+    private static void finish(Method method) {
+        String command = method.getName();
+        if (LOCAL_CALLS.contains(command)) {
+            return;
+        }
+        Long start = STARTED.get().poll();
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        COMMANDS.computeIfAbsent(command, key -> new LatencyHistogram()).record(elapsed);
+        TESTS.computeIfAbsent(CURRENT_TEST.get(), key -> new TestCommands()).record(command, elapsed);
+    }
+    
+    public static void printSummary() {
+        if (COMMANDS.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== WebDriver Command Summary (slowest first) ===");
+        List<Map.Entry<String, LatencyHistogram>> commands = new ArrayList<>(COMMANDS.entrySet());
+        commands.sort(Comparator.comparingLong(
+                (Map.Entry<String, LatencyHistogram> e) -> e.getValue().totalNanos()).reversed());
+        for (Map.Entry<String, LatencyHistogram> entry : commands) {
+            System.out.println(entry.getKey() + ": " + entry.getValue().summary());
+        }
+        System.out.println("\n=== WebDriver Commands per Test ===");
+        List<Map.Entry<String, TestCommands>> tests = new ArrayList<>(TESTS.entrySet());
+        tests.sort(Comparator.comparingLong(
+                (Map.Entry<String, TestCommands> e) -> e.getValue().count.get()).reversed());
+        for (Map.Entry<String, TestCommands> entry : tests) {
+            System.out.println(entry.getKey() + ": " + entry.getValue().summary());
+        }
+    }
+    
+    private static final class TestCommands {
+        
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong totalNanos = new AtomicLong();
+        final Map<String, AtomicLong> perCommand = new ConcurrentHashMap<>();
+        
+        void record(String command, long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            perCommand.computeIfAbsent(command, key -> new AtomicLong()).incrementAndGet();
+        }
+        
+        String summary() {
+            String top = perCommand.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, AtomicLong> e) -> e.getValue().get()).reversed())
+                    .limit(5)
+                    .map(e -> e.getKey() + " x" + e.getValue().get())
+                    .collect(Collectors.joining(", "));
+            return String.format("%d commands, %.1f ms (%s)", count.get(), LatencyHistogram.millis(totalNanos.get()), top);
+        }
+    }
+}
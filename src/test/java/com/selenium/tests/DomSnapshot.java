@@ -0,0 +1,174 @@
+package com.selenium.tests;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * A parsed copy of the current page for read-only queries (page source, counts, existence,
+ * text and attributes) that run in the JVM instead of costing a browser round trip each.
+ * With {@code -Ddom.snapshot=true} the snapshot of a pooled session is cached until the next
+ * WebDriver call that may change the page (anything but a known read-only command), so one
+ * {@code getPageSource()} serves every query in between. Attributes are the raw DOM attribute
+ * values, as with {@code getDomAttribute}.
+ */
+public final class DomSnapshot {
+    
+    static final boolean ENABLED = TestConfig.booleanProperty("dom.snapshot", false);
+    
+    private static final Set<String> READ_ONLY = new HashSet<>(Arrays.asList(
+        "getPageSource", "getTitle", "getCurrentUrl", "getWindowHandle", "getWindowHandles",
+        "findElement", "findElements", "getAttribute", "getDomAttribute", "getDomProperty",
+        "getText", "getTagName", "getCssValue", "isDisplayed", "isEnabled", "isSelected",
+        "getLocation", "getSize", "getRect", "getPosition", "getAccessibleName", "getAriaRole",
+        "getScreenshotAs", "getCapabilities", "manage", "window", "timeouts", "getCookies",
+        "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals"));
+    
+    private static final AtomicLong CAPTURED = new AtomicLong();
+    private static final AtomicLong CACHE_HITS = new AtomicLong();
+    private static final AtomicLong INVALIDATIONS = new AtomicLong();
+    
+    private final String source;
+    private Document document;
+    
+    private DomSnapshot(String source) {
+        this.source = source;
+    }
+    
+    public static DomSnapshot of(WebDriver driver) {
+        Cache cache = ENABLED ? DriverPool.domCache(driver) : null;
+        return cache == null ? capture(driver) : cache.get(driver);
+    }
+    
+    static Cache newCache() {
+        return ENABLED ? new Cache() : null;
+    }
+    
+    public String pageSource() {
+        return source;
+    }
+    
+    public int count(By locator) {
+        return select(locator).size();
+    }
+    
+    public boolean exists(By locator) {
+        return !select(locator).isEmpty();
+    }
+    
+    public String text(By locator) {
+        Element element = select(locator).first();
+        return element == null ? null : element.text();
+    }
+    
+    public String attribute(By locator, String name) {
+        Element element = select(locator).first();
+        return element == null || !element.hasAttr(name) ? null : element.attr(name);
+    }
+    
+    public static void printSummary() {
+        if (CAPTURED.get() == 0) {
+            return;
+        }
+        System.out.println("\n=== DOM Snapshot Summary ===");
+        System.out.println("Snapshots captured: " + CAPTURED.get() + ", served from cache: " + CACHE_HITS.get() +
+                           ", invalidations: " + INVALIDATIONS.get());
+    }
+    
+    private static DomSnapshot capture(WebDriver driver) {
+        CAPTURED.incrementAndGet();
+        return new DomSnapshot(driver.getPageSource());
+    }
+    
+    private synchronized Document document() {
+        if (document == null) {
+            document = Jsoup.parse(source);
+        }
+        return document;
+    }
+    
+    private Elements select(By locator) {
+        Map<String, Object> spec = BatchLocator.toSpec(locator);
+        if (spec == null) {
+            throw new IllegalArgumentException("Locator not supported by DOM snapshot: " + locator);
+        }
+        String value = String.valueOf(spec.get("value"));
+        switch (String.valueOf(spec.get("using"))) {
+            case "css selector":
+                return document().select(value);
+            case "id":
+                return document().getElementsByAttributeValue("id", value);
+            case "name":
+                return document().getElementsByAttributeValue("name", value);
+            case "class name":
+                return document().getElementsByClass(value);
+            case "tag name":
+                return document().getElementsByTag(value);
+            case "xpath":
+                return document().selectXpath(value);
+            case "link text":
+                return links(value, false);
+            case "partial link text":
+                return links(value, true);
+            default:
+                throw new IllegalArgumentException("Locator not supported by DOM snapshot: " + locator);
+        }
+    }
+    
+    private Elements links(String text, boolean partial) {
+        Elements links = new Elements();
+        for (Element link : document().getElementsByTag("a")) {
+            String linkText = link.text().trim();
+            if (partial ? linkText.contains(text) : linkText.equals(text)) {
+                links.add(link);
+            }
+        }
+        return links;
+    }
+    
+    /**
+     * Per-session cache, registered as a listener on the session's driver so that any call
+     * outside {@link #READ_ONLY} drops the snapshot before it runs.
+     */
+    static final class Cache implements WebDriverListener {
+        
+        private final AtomicLong version = new AtomicLong();
+        private volatile DomSnapshot current;
+        
+        DomSnapshot get(WebDriver driver) {
+            DomSnapshot snapshot = current;
+            if (snapshot != null) {
+                CACHE_HITS.incrementAndGet();
+                return snapshot;
+            }
+            long capturedVersion = version.get();
+            snapshot = capture(driver);
+            if (version.get() == capturedVersion) {
+                current = snapshot;
+            }
+            return snapshot;
+        }
+        
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            if (!READ_ONLY.contains(method.getName())) {
+                version.incrementAndGet();
+                if (current != null) {
+                    current = null;
+                    INVALIDATIONS.incrementAndGet();
+                }
+            }
+        }
+    }
+}
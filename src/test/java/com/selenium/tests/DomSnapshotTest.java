@@ -0,0 +1,87 @@
+package com.selenium.tests;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+public class DomSnapshotTest {
+    
+    private static final String PAGE =
+        "<html><head><title>Practice</title></head><body>" +
+        "<input type='radio' name='radioButton' value='radio1' checked>" +
+        "<input type='checkbox' id='checkBoxOption1' value='option1'>" +
+        "<p class='note'>  First   note </p><p class='note'>Second note</p>" +
+        "<a href='/home' class='nav'>Home</a><a href='/practice' class='nav'>Practice Page</a>" +
+        "</body></html>";
+    
+    @Test
+    @DisplayName("Text is the normalized text of the first match")
+    public void testText() {
+        DomSnapshot snapshot = DomSnapshot.of(driver(PAGE));
+        
+        Assertions.assertEquals("First note", snapshot.text(By.className("note")));
+        Assertions.assertEquals("Second note", snapshot.text(By.xpath("//p[2]")));
+        Assertions.assertEquals("Home", snapshot.text(By.linkText("Home")));
+        Assertions.assertEquals("Practice Page", snapshot.text(By.partialLinkText("Page")));
+        Assertions.assertNull(snapshot.text(By.id("missing")));
+    }
+    
+    @Test
+    @DisplayName("Attributes are the raw DOM values, null when absent")
+    public void testAttribute() {
+        DomSnapshot snapshot = DomSnapshot.of(driver(PAGE));
+        
+        Assertions.assertEquals("option1", snapshot.attribute(By.id("checkBoxOption1"), "value"));
+        Assertions.assertEquals("/home", snapshot.attribute(By.linkText("Home"), "href"));
+        Assertions.assertEquals("", snapshot.attribute(By.name("radioButton"), "checked"));
+        Assertions.assertNull(snapshot.attribute(By.id("checkBoxOption1"), "checked"));
+        Assertions.assertNull(snapshot.attribute(By.id("missing"), "value"));
+    }
+    
+    @Test
+    @DisplayName("Counts and existence cover every W3C locator strategy")
+    public void testCountAndExists() {
+        DomSnapshot snapshot = DomSnapshot.of(driver(PAGE));
+        
+        Assertions.assertEquals(2, snapshot.count(By.tagName("input")));
+        Assertions.assertEquals(2, snapshot.count(By.cssSelector("a.nav")));
+        Assertions.assertEquals(2, snapshot.count(By.className("note")));
+        Assertions.assertEquals(1, snapshot.count(By.id("checkBoxOption1")));
+        Assertions.assertEquals(1, snapshot.count(By.xpath("//input[@type='radio']")));
+        Assertions.assertEquals(1, snapshot.count(By.partialLinkText("Practice")));
+        Assertions.assertTrue(snapshot.exists(By.name("radioButton")));
+        Assertions.assertFalse(snapshot.exists(By.linkText("Practice")));
+    }
+    
+    @Test
+    @DisplayName("Locators without W3C parameters are rejected")
+    public void testUnsupportedLocator() {
+        DomSnapshot snapshot = DomSnapshot.of(driver(PAGE));
+        By custom = new By() {
+            @Override
+            public List<WebElement> findElements(SearchContext context) {
+                return Collections.emptyList();
+            }
+        };
+        
+        Assertions.assertThrows(IllegalArgumentException.class, () -> snapshot.count(custom));
+    }
+    
+    private static WebDriver driver(String pageSource) {
+        return (WebDriver) Proxy.newProxyInstance(DomSnapshotTest.class.getClassLoader(), new Class<?>[] {WebDriver.class},
+                (proxy, method, args) -> {
+                    if ("getPageSource".equals(method.getName())) {
+                        return pageSource;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
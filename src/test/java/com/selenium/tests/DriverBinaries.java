@@ -0,0 +1,110 @@
+package com.selenium.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.SessionNotCreatedException;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Resolves the chromedriver/geckodriver binary once per JVM and browser. Online resolution goes
+ * through WebDriverManager with its cache in {@code drivers.cacheDir}; with
+ * {@code -Ddrivers.offline=true} the newest binary already in that cache is used without any
+ * network access. The default cache is kept apart from Selenium Manager's {@code ~/.cache/selenium},
+ * so the offline scan only sees binaries this suite downloaded. How long each resolution took is printed and summarised at suite end.
+ */
+public final class DriverBinaries {
+    
+    private static final boolean OFFLINE = TestConfig.booleanProperty("drivers.offline", false);
+    private static final String CACHE_DIR = TestConfig.stringProperty("drivers.cacheDir",
+            Paths.get(System.getProperty("user.home"), ".cache", "selenium-testing", "drivers").toString());
+    
+    private static final Map<BrowserType, Resolution> RESOLVED = new EnumMap<>(BrowserType.class);
+    
+    private DriverBinaries() {
+    }
+    
+    public static synchronized String ensure(BrowserType browser) {
+        Resolution resolution = RESOLVED.get(browser);
+        if (resolution == null) {
+            long start = System.nanoTime();
+            String source;
+            String path = System.getProperty(browser.driverPathProperty());
+            if (path != null && new File(path).isFile()) {
+                source = "preset";
+            } else if (OFFLINE) {
+                path = findCachedBinary(browser);
+                System.setProperty(browser.driverPathProperty(), path);
+                source = "offline cache";
+            } else {
+                WebDriverManager manager = browser.driverManager().cachePath(CACHE_DIR);
+                manager.setup();
+                path = manager.getDownloadedDriverPath();
+                source = "WebDriverManager";
+            }
+            resolution = new Resolution(path, source, (System.nanoTime() - start) / 1_000_000L);
+            RESOLVED.put(browser, resolution);
+            System.out.println("  ⏱ " + browser.displayName() + " driver resolved in " + resolution.millis +
+                               " ms (" + source + "): " + path);
+        }
+        return resolution.path;
+    }
+    
+    public static synchronized void printSummary() {
+        if (RESOLVED.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== Driver Resolution Summary ===");
+        long total = 0;
+        for (Map.Entry<BrowserType, Resolution> entry : RESOLVED.entrySet()) {
+            Resolution resolution = entry.getValue();
+            total += resolution.millis;
+            System.out.println(entry.getKey().displayName() + ": " + resolution.millis + " ms (" + resolution.source + ")");
+        }
+        System.out.println("Total startup time spent on driver resolution: " + total + " ms");
+    }
+    
+    private static String findCachedBinary(BrowserType browser) {
+        String binaryName = browser.driverBinaryName();
+        if (System.getProperty("os.name", "").toLowerCase().contains("win")) {
+            binaryName += ".exe";
+        }
+        String fileName = binaryName;
+        Path cacheDir = Paths.get(CACHE_DIR);
+        if (!Files.isDirectory(cacheDir)) {
+            throw new SessionNotCreatedException("Offline mode: driver cache " + cacheDir + " does not exist. " +
+                    "Populate it by running once online or set -D" + browser.driverPathProperty() + "=<path>");
+        }
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            Optional<Path> newest = files
+                    .filter(file -> file.getFileName().toString().equals(fileName) && Files.isRegularFile(file))
+                    .max(Comparator.comparingLong(file -> file.toFile().lastModified()));
+            return newest.orElseThrow(() -> new SessionNotCreatedException("Offline mode: no " + fileName +
+                    " found in " + cacheDir)).toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Offline mode: failed to scan driver cache " + cacheDir, e);
+        }
+    }
+    
+    private static final class Resolution {
+        
+        final String path;
+        final String source;
+        final long millis;
+        
+        Resolution(String path, String source, long millis) {
+            this.path = path;
+            this.source = source;
+            this.millis = millis;
+        }
+    }
+}
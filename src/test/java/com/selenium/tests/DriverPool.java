@@ -0,0 +1,309 @@
+package com.selenium.tests;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * Hands out warm browser sessions per {@link BrowserType} so test classes do not pay
+ * for a browser launch each. A released session is reset (extra windows, cookies, web
+ * storage and implicit wait) and parked for the next test; it is quit instead once it has served
+ * {@code pool.maxUses} tests or stops responding. Sessions can be launched ahead of time on a
+ * background thread with {@link #prewarm(BrowserType)}; a recycled session is replaced that way
+ * right away. All sessions are quit when the suite ends.
+ */
+public final class DriverPool {
+    
+    private static final int MAX_USES = Math.max(1, TestConfig.intProperty("pool.maxUses", 20));
+    
+    private static final Object LOCK = new Object();
+    private static final Map<BrowserType, Deque<PooledSession>> IDLE = new EnumMap<>(BrowserType.class);
+    private static final Map<WebDriver, PooledSession> LEASED = new IdentityHashMap<>();
+    private static final Map<BrowserType, Future<?>> PREWARMING = new EnumMap<>(BrowserType.class);
+    
+    private static final ExecutorService PREWARM_EXECUTOR = Executors.newFixedThreadPool(BrowserType.values().length, task -> {
+        Thread thread = new Thread(task, "driver-prewarm");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private static final AtomicInteger CREATED = new AtomicInteger();
+    private static final AtomicInteger REUSED = new AtomicInteger();
+    private static final AtomicInteger RECYCLED = new AtomicInteger();
+    private static final AtomicInteger PREWARMED = new AtomicInteger();
+    private static final AtomicInteger PREWARM_HITS = new AtomicInteger();
+    
+    private DriverPool() {
+    }
+    
+    public static WebDriver acquire(BrowserType browser) {
+        return StepTimer.time(browser, "driver setup", () -> acquireSession(browser));
+    }
+    
+    private static WebDriver acquireSession(BrowserType browser) {
+        PooledSession session;
+        while (true) {
+            session = pollIdle(browser);
+            if (session != null) {
+                if (session.isHealthy()) {
+                    (session.uses == 0 ? PREWARM_HITS : REUSED).incrementAndGet();
+                    return lease(session);
+                }
+                discard(session, "unhealthy");
+                continue;
+            }
+            Future<?> pending = pendingPrewarm(browser);
+            if (pending == null || !awaitPrewarm(pending)) {
+                break;
+            }
+        }
+        return lease(createSession(browser));
+    }
+    
+    public static void prewarm(BrowserType browser) {
+        synchronized (LOCK) {
+            Deque<PooledSession> idle = IDLE.get(browser);
+            if ((idle != null && !idle.isEmpty()) || PREWARMING.containsKey(browser)) {
+                return;
+            }
+            PREWARMING.put(browser, PREWARM_EXECUTOR.submit(() -> {
+                PooledSession session = null;
+                try {
+                    session = createSession(browser);
+                    PREWARMED.incrementAndGet();
+                    System.out.println("  ⏩ Pre-spawned " + browser.displayName() + " session");
+                } catch (RuntimeException e) {
+                    System.out.println("  ⚠ Failed to pre-spawn " + browser.displayName() + " session: " + e.getMessage());
+                } finally {
+                    synchronized (LOCK) {
+                        PREWARMING.remove(browser);
+                        if (session != null) {
+                            IDLE.computeIfAbsent(browser, b -> new ArrayDeque<>()).addLast(session);
+                        }
+                    }
+                }
+            }));
+        }
+    }
+    
+    public static void release(WebDriver driver) {
+        PooledSession session;
+        synchronized (LOCK) {
+            session = LEASED.remove(driver);
+        }
+        if (session == null) {
+            driver.quit();
+            return;
+        }
+        session.uses++;
+        if (session.uses >= MAX_USES) {
+            discard(session, "served " + session.uses + " tests");
+            prewarm(session.browser);
+        } else if (!session.reset()) {
+            discard(session, "reset failed");
+        } else {
+            synchronized (LOCK) {
+                IDLE.computeIfAbsent(session.browser, b -> new ArrayDeque<>()).push(session);
+            }
+        }
+    }
+    
+    public static void shutdown() {
+        List<Future<?>> pending;
+        synchronized (LOCK) {
+            pending = new ArrayList<>(PREWARMING.values());
+        }
+        for (Future<?> future : pending) {
+            awaitPrewarm(future);
+        }
+        List<PooledSession> sessions = new ArrayList<>();
+        synchronized (LOCK) {
+            for (Deque<PooledSession> idle : IDLE.values()) {
+                sessions.addAll(idle);
+            }
+            sessions.addAll(LEASED.values());
+            IDLE.clear();
+            LEASED.clear();
+        }
+        for (PooledSession session : sessions) {
+            session.quit();
+        }
+        if (CREATED.get() > 0) {
+            System.out.println("\n=== Driver Pool Summary ===");
+            System.out.println("Sessions created: " + CREATED.get());
+            System.out.println("Sessions reused: " + REUSED.get());
+            System.out.println("Sessions recycled: " + RECYCLED.get());
+            System.out.println("Sessions pre-spawned: " + PREWARMED.get() + ", used: " + PREWARM_HITS.get());
+        }
+        CREATED.set(0);
+        REUSED.set(0);
+        RECYCLED.set(0);
+        PREWARMED.set(0);
+        PREWARM_HITS.set(0);
+    }
+    
+    private static PooledSession createSession(BrowserType browser) {
+        if (!LocalGrid.enabled()) {
+            DriverBinaries.ensure(browser);
+        }
+        long start = System.nanoTime();
+        WebDriver driver = browser.createDriver();
+        ProfileBaseline.recordStartup(System.nanoTime() - start);
+        DomSnapshot.Cache domCache = DomSnapshot.newCache();
+        driver = decorate(driver, CommandTracer.listener(), domCache);
+        CREATED.incrementAndGet();
+        return new PooledSession(browser, driver, domCache);
+    }
+    
+    static DomSnapshot.Cache domCache(WebDriver driver) {
+        synchronized (LOCK) {
+            PooledSession session = LEASED.get(driver);
+            return session == null ? null : session.domCache;
+        }
+    }
+    
+    private static WebDriver decorate(WebDriver driver, WebDriverListener... listeners) {
+        List<WebDriverListener> active = new ArrayList<>();
+        for (WebDriverListener listener : listeners) {
+            if (listener != null) {
+                active.add(listener);
+            }
+        }
+        if (active.isEmpty()) {
+            return driver;
+        }
+        return new EventFiringDecorator<WebDriver>(active.toArray(new WebDriverListener[0])).decorate(driver);
+    }
+    
+    private static Future<?> pendingPrewarm(BrowserType browser) {
+        synchronized (LOCK) {
+            return PREWARMING.get(browser);
+        }
+    }
+    
+    private static boolean awaitPrewarm(Future<?> pending) {
+        try {
+            pending.get();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            System.out.println("  ⚠ Pre-spawn failed: " + e.getCause());
+            return true;
+        }
+    }
+    
+    /**
+     * Quits the longest-idle session of any browser but {@code browser}, so that its Grid slot can
+     * serve a new {@code browser} session. Returns {@code false} when no such session is parked.
+     */
+    static boolean evictIdleExcept(BrowserType browser) {
+        PooledSession session = null;
+        synchronized (LOCK) {
+            for (Map.Entry<BrowserType, Deque<PooledSession>> idle : IDLE.entrySet()) {
+                if (idle.getKey() != browser && !idle.getValue().isEmpty()) {
+                    session = idle.getValue().pollLast();
+                    break;
+                }
+            }
+        }
+        if (session == null) {
+            return false;
+        }
+        discard(session, "freeing a Grid slot for " + browser.displayName());
+        return true;
+    }
+    
+    private static PooledSession pollIdle(BrowserType browser) {
+        synchronized (LOCK) {
+            Deque<PooledSession> idle = IDLE.get(browser);
+            return idle == null ? null : idle.poll();
+        }
+    }
+    
+    private static WebDriver lease(PooledSession session) {
+        synchronized (LOCK) {
+            LEASED.put(session.driver, session);
+        }
+        return session.driver;
+    }
+    
+    private static void discard(PooledSession session, String reason) {
+        RECYCLED.incrementAndGet();
+        System.out.println("  ♻ Recycling " + session.browser.displayName() + " session (" + reason + ")");
+        session.quit();
+    }
+    
+    static final class PooledSession {
+        
+        final BrowserType browser;
+        final WebDriver driver;
+        final DomSnapshot.Cache domCache;
+        int uses;
+        private String homeWindow;
+        
+        PooledSession(BrowserType browser, WebDriver driver, DomSnapshot.Cache domCache) {
+            this.browser = browser;
+            this.driver = driver;
+            this.domCache = domCache;
+            this.homeWindow = driver.getWindowHandle();
+        }
+        
+        boolean isHealthy() {
+            try {
+                return !driver.getWindowHandles().isEmpty();
+            } catch (WebDriverException e) {
+                return false;
+            }
+        }
+        
+        boolean reset() {
+            try {
+                Set<String> handles = driver.getWindowHandles();
+                if (!handles.contains(homeWindow)) {
+                    homeWindow = handles.iterator().next();
+                }
+                for (String handle : handles) {
+                    if (!handle.equals(homeWindow)) {
+                        driver.switchTo().window(handle);
+                        driver.close();
+                    }
+                }
+                driver.switchTo().window(homeWindow);
+                driver.manage().deleteAllCookies();
+                driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+                ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+                return true;
+            } catch (WebDriverException | java.util.NoSuchElementException e) {
+                return false;
+            }
+        }
+        
+        void quit() {
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                System.out.println("  ⚠ Failed to quit " + browser.displayName() + " session: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.selenium.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Count and existence queries that return only numbers, never element references. The locators
+ * are evaluated in the page by one script call for any number of locators, or against the cached
+ * {@link DomSnapshot} when {@code dom.snapshot} is enabled. Locators that cannot be expressed as
+ * W3C locator parameters fall back to {@code findElements(...).size()}.
+ */
+public final class ElementQuery {
+    
+    private static final String COUNT_SCRIPT = BatchLocator.FIND_FUNCTION +
+        "var specs = arguments[0], out = [];" +
+        "for (var i = 0; i < specs.length; i++) {" +
+        "  var s = specs[i];" +
+        "  out.push(s.using === 'css selector' ? document.querySelectorAll(s.value).length" +
+        "         : s.using === 'tag name' ? document.getElementsByTagName(s.value).length" +
+        "         : __find(s).length);" +
+        "}" +
+        "return out;";
+    
+    private ElementQuery() {
+    }
+    
+    public static int count(WebDriver driver, By locator) {
+        return counts(driver, locator)[0];
+    }
+    
+    public static boolean exists(WebDriver driver, By locator) {
+        return count(driver, locator) > 0;
+    }
+    
+    public static int[] counts(WebDriver driver, By... locators) {
+        int[] counts = new int[locators.length];
+        if (DomSnapshot.ENABLED && DriverPool.domCache(driver) != null) {
+            DomSnapshot snapshot = DomSnapshot.of(driver);
+            for (int i = 0; i < locators.length; i++) {
+                counts[i] = BatchLocator.toSpec(locators[i]) == null
+                        ? driver.findElements(locators[i]).size() : snapshot.count(locators[i]);
+            }
+            return counts;
+        }
+        List<Integer> scripted = new ArrayList<>();
+        List<Map<String, Object>> specs = new ArrayList<>();
+        for (int i = 0; i < locators.length; i++) {
+            Map<String, Object> spec = BatchLocator.toSpec(locators[i]);
+            if (spec == null) {
+                counts[i] = driver.findElements(locators[i]).size();
+            } else {
+                scripted.add(i);
+                specs.add(spec);
+            }
+        }
+        if (!specs.isEmpty()) {
+            List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(COUNT_SCRIPT, specs);
+            for (int i = 0; i < scripted.size(); i++) {
+                counts[scripted.get(i)] = ((Number) results.get(i)).intValue();
+            }
+        }
+        return counts;
+    }
+}
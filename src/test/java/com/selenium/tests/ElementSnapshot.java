@@ -0,0 +1,106 @@
+package com.selenium.tests;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Immutable view of an element's attributes and states, fetched with one script call
+ * instead of one {@code getAttribute}/{@code isDisplayed}/{@code isEnabled}/{@code isSelected}
+ * command each. Attributes follow {@code WebElement.getAttribute}: the DOM property wins when
+ * it is a plain value, boolean properties read as {@code "true"} or {@code null}.
+ */
+public final class ElementSnapshot {
+    
+    private static final String SNAPSHOT_SCRIPT =
+        "var el = arguments[0], names = arguments[1], attributes = {};" +
+        "for (var i = 0; i < names.length; i++) {" +
+        "  var name = names[i], property = el[name];" +
+        "  if (typeof property === 'boolean') { attributes[name] = property ? 'true' : null; }" +
+        "  else if (property !== undefined && property !== null && typeof property !== 'object'" +
+        "           && typeof property !== 'function') { attributes[name] = String(property); }" +
+        "  else { attributes[name] = el.getAttribute(name); }" +
+        "}" +
+        "var displayed;" +
+        "if (el.checkVisibility) { displayed = el.checkVisibility({ checkOpacity: false, checkVisibilityCSS: true }); }" +
+        "else { var style = window.getComputedStyle(el);" +
+        "  displayed = style.display !== 'none' && style.visibility !== 'hidden' && el.getClientRects().length > 0; }" +
+        "return {" +
+        "  tagName: el.tagName.toLowerCase()," +
+        "  displayed: displayed," +
+        "  enabled: !(el.matches && el.matches(':disabled'))," +
+        "  selected: !!(el.checked || el.selected)," +
+        "  attributes: attributes" +
+        "};";
+    
+    private final String tagName;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+    private final Map<String, String> attributes;
+    
+    private ElementSnapshot(String tagName, boolean displayed, boolean enabled, boolean selected,
+                            Map<String, String> attributes) {
+        this.tagName = tagName;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+    
+    public static ElementSnapshot of(WebDriver driver, WebElement element, String... attributeNames) {
+        List<String> names = Arrays.asList(attributeNames);
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, element, names);
+        Map<?, ?> values = (Map<?, ?>) result.get("attributes");
+        Map<String, String> attributes = new LinkedHashMap<>();
+        for (String name : names) {
+            Object value = values.get(name);
+            attributes.put(name, value == null ? null : value.toString());
+        }
+        return new ElementSnapshot(
+                (String) result.get("tagName"),
+                Boolean.TRUE.equals(result.get("displayed")),
+                Boolean.TRUE.equals(result.get("enabled")),
+                Boolean.TRUE.equals(result.get("selected")),
+                attributes);
+    }
+    
+    public String tagName() {
+        return tagName;
+    }
+    
+    public boolean isDisplayed() {
+        return displayed;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public boolean isSelected() {
+        return selected;
+    }
+    
+    public String attribute(String name) {
+        if (!attributes.containsKey(name)) {
+            throw new IllegalArgumentException("Attribute was not captured in this snapshot: " + name);
+        }
+        return attributes.get(name);
+    }
+    
+    public Map<String, String> attributes() {
+        return attributes;
+    }
+    
+    @Override
+    public String toString() {
+        return "<" + tagName + "> " + attributes + ", displayed=" + displayed + ", enabled=" + enabled +
+               ", selected=" + selected;
+    }
+}
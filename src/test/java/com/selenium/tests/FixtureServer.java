@@ -0,0 +1,148 @@
+package com.selenium.tests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embedded HTTP server serving a frozen copy of the practice page from
+ * {@code src/test/resources/fixtures}, so the suite can run offline and deterministically.
+ * {@code fixture.latencyMs} delays every response and {@code fixture.bandwidthKbps} throttles
+ * the response body, to emulate slower networks reproducibly.
+ */
+public final class FixtureServer {
+    
+    public static final String PRACTICE_PATH = "/practice/";
+    
+    private static final String PRACTICE_RESOURCE = "/fixtures/practice.html";
+    private static final int CHUNK_SIZE = 1024;
+    
+    private static FixtureServer shared;
+    private static int sharedPort = TestConfig.intProperty("fixture.port", 0);
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final byte[] practicePage;
+    private final long latencyMillis;
+    private final long bytesPerSecond;
+    
+    public FixtureServer(int port, long latencyMillis, long bandwidthKbps) throws IOException {
+        this.practicePage = loadResource(PRACTICE_RESOURCE);
+        this.latencyMillis = Math.max(0, latencyMillis);
+        this.bytesPerSecond = bandwidthKbps > 0 ? bandwidthKbps * 1000 / 8 : 0;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+    
+    public static synchronized FixtureServer shared() {
+        if (shared == null) {
+            try {
+                shared = new FixtureServer(sharedPort,
+                        TestConfig.intProperty("fixture.latencyMs", 0),
+                        TestConfig.intProperty("fixture.bandwidthKbps", 0));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to start fixture server on port " + sharedPort, e);
+            }
+            sharedPort = shared.port();
+            System.out.println("✓ Fixture server started: " + shared.url(PRACTICE_PATH));
+        }
+        return shared;
+    }
+    
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.stop();
+            shared = null;
+        }
+    }
+    
+    public int port() {
+        return server.getAddress().getPort();
+    }
+    
+    public String url(String path) {
+        return "http://127.0.0.1:" + port() + path;
+    }
+    
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (!PRACTICE_PATH.equals(path) && !"/practice".equals(path)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            sleep(latencyMillis);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, practicePage.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                writeThrottled(body, practicePage);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private void writeThrottled(OutputStream body, byte[] content) throws IOException {
+        if (bytesPerSecond == 0) {
+            body.write(content);
+            return;
+        }
+        long start = System.nanoTime();
+        for (int offset = 0; offset < content.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, content.length - offset);
+            body.write(content, offset, length);
+            body.flush();
+            long dueNanos = (offset + length) * 1_000_000_000L / bytesPerSecond;
+            sleep((dueNanos - (System.nanoTime() - start)) / 1_000_000L);
+        }
+    }
+    
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static byte[] loadResource(String name) throws IOException {
+        try (InputStream in = FixtureServer.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("Fixture resource not found: " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
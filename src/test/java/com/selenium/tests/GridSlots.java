@@ -0,0 +1,63 @@
+package com.selenium.tests;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Client-side admission to the session slots of a {@link LocalGrid}. Idle pooled sessions keep
+ * their slot, so a request that finds none free first asks the evictor to quit an idle session
+ * of another browser, whose slot comes back through {@link #release()}. Otherwise it waits, and
+ * keeps retrying the evictor, until {@code grid.slotTimeoutMs} has passed.
+ */
+final class GridSlots {
+    
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    
+    private final int capacity;
+    private final long timeoutMs;
+    private final Predicate<BrowserType> evictIdleExcept;
+    private final Semaphore available;
+    
+    GridSlots(int capacity, long timeoutMs, Predicate<BrowserType> evictIdleExcept) {
+        this.capacity = capacity;
+        this.timeoutMs = timeoutMs;
+        this.evictIdleExcept = evictIdleExcept;
+        this.available = new Semaphore(capacity, true);
+    }
+    
+    /**
+     * Takes a slot for a new {@code browser} session and returns how long that took in nanoseconds.
+     */
+    long acquire(BrowserType browser) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        try {
+            while (!available.tryAcquire()) {
+                if (evictIdleExcept.test(browser)) {
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("No free Grid slot for " + browser.displayName() + " after " +
+                            timeoutMs + " ms: all " + capacity + " slot(s) are held by leased sessions. " +
+                            "Raise grid.maxSessions or grid.slotTimeoutMs, or run fewer tests in parallel");
+                }
+                if (available.tryAcquire(Math.min(remaining, POLL_NANOS), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for a free Grid slot", e);
+        }
+        return System.nanoTime() - start;
+    }
+    
+    void release() {
+        available.release();
+    }
+}
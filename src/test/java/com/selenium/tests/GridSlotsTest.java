@@ -0,0 +1,68 @@
+package com.selenium.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+
+public class GridSlotsTest {
+    
+    @Test
+    @DisplayName("A second browser takes the slot of an idle session of the first browser")
+    public void testEvictsIdleSessionOfOtherBrowser() {
+        AtomicReference<GridSlots> slots = new AtomicReference<>();
+        List<BrowserType> requests = new ArrayList<>();
+        List<BrowserType> idle = new ArrayList<>();
+        slots.set(new GridSlots(1, 60000, browser -> {
+            requests.add(browser);
+            if (idle.isEmpty() || idle.get(0) == browser) {
+                return false;
+            }
+            idle.remove(0);
+            slots.get().release();
+            return true;
+        }));
+        
+        slots.get().acquire(BrowserType.CHROME);
+        idle.add(BrowserType.CHROME);
+        long waitNanos = slots.get().acquire(BrowserType.FIREFOX);
+        
+        Assertions.assertTrue(idle.isEmpty());
+        Assertions.assertEquals(BrowserType.FIREFOX, requests.get(0));
+        Assertions.assertTrue(waitNanos < 5_000_000_000L, "waited for the slot timeout instead of evicting");
+    }
+    
+    @Test
+    @DisplayName("A free slot is taken without evicting anything")
+    public void testFreeSlotDoesNotEvict() {
+        List<BrowserType> requests = new ArrayList<>();
+        GridSlots slots = new GridSlots(1, 60000, browser -> {
+            requests.add(browser);
+            return false;
+        });
+        
+        slots.acquire(BrowserType.CHROME);
+        slots.release();
+        slots.acquire(BrowserType.FIREFOX);
+        
+        Assertions.assertTrue(requests.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Without an idle session to evict the request fails after grid.slotTimeoutMs")
+    public void testTimesOutWhenAllSlotsAreLeased() {
+        GridSlots slots = new GridSlots(1, 300, browser -> false);
+        slots.acquire(BrowserType.CHROME);
+        
+        long start = System.nanoTime();
+        TimeoutException error = Assertions.assertThrows(TimeoutException.class,
+                () -> slots.acquire(BrowserType.FIREFOX));
+        
+        Assertions.assertTrue(System.nanoTime() - start >= 300_000_000L);
+        Assertions.assertTrue(error.getMessage().contains("No free Grid slot for Firefox after 300 ms"), error.getMessage());
+    }
+}
@@ -0,0 +1,90 @@
+package com.selenium.tests;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of durations in nanoseconds. Every power of two is split
+ * into eight buckets, so reported percentiles are within 12.5% of the recorded values
+ * while the histogram itself stays a fixed array of a few hundred counters.
+ */
+public final class LatencyHistogram {
+    
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+    
+    public long count() {
+        return count.get();
+    }
+    
+    public long totalNanos() {
+        return total.get();
+    }
+    
+    public long maxNanos() {
+        return max.get();
+    }
+    
+    public long meanNanos() {
+        long n = count.get();
+        return n == 0 ? 0 : total.get() / n;
+    }
+    
+    public long percentileNanos(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(n * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+    
+    public String summary() {
+        return String.format("n=%d, p50=%.1f ms, p95=%.1f ms, max=%.1f ms, total=%.1f ms",
+                count(), millis(percentileNanos(50)), millis(percentileNanos(95)),
+                millis(maxNanos()), millis(totalNanos()));
+    }
+    
+    public static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+    
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+    
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int highestBit = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << (highestBit - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,338 @@
+package com.selenium.tests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * Execution backend that creates sessions through {@link RemoteWebDriver} on a Selenium Grid,
+ * selected with {@code -Ddriver.backend=grid}. Unless {@code grid.url} points at a running Grid,
+ * one is launched on this machine on first use: a standalone server, or a hub with
+ * {@code grid.nodes} nodes when {@code grid.mode=hub}. Each node accepts its share of the CPU
+ * cores as concurrent sessions ({@code grid.maxSessions} overrides). Session requests queue for
+ * the Grid's slots on the client through {@link GridSlots}, so queue wait and execution time are
+ * reported separately per browser.
+ */
+public final class LocalGrid {
+    
+    private static final boolean ENABLED = "grid".equalsIgnoreCase(TestConfig.stringProperty("driver.backend", "local"));
+    private static final String EXTERNAL_URL = TestConfig.stringProperty("grid.url", "");
+    private static final boolean HUB_MODE = "hub".equalsIgnoreCase(TestConfig.stringProperty("grid.mode", "standalone"));
+    private static final int PORT = TestConfig.intProperty("grid.port", 4444);
+    private static final int NODES = HUB_MODE ? Math.max(1, TestConfig.intProperty("grid.nodes", 2)) : 1;
+    private static final int SESSIONS_PER_NODE = Math.max(1, TestConfig.intProperty("grid.maxSessions",
+            Runtime.getRuntime().availableProcessors() / NODES));
+    private static final long START_TIMEOUT_MS = TestConfig.intProperty("grid.startTimeoutMs", 60000);
+    private static final long SLOT_TIMEOUT_MS = TestConfig.intProperty("grid.slotTimeoutMs", 120000);
+    private static final Path LOG_DIR = Paths.get(TestConfig.stringProperty("grid.logDir", "target/grid"));
+    private static final String MAIN_CLASS = "org.openqa.selenium.grid.Main";
+    private static final long POLL_MS = 250;
+    
+    private static final Json JSON = new Json();
+    private static final List<Process> PROCESSES = new ArrayList<>();
+    private static final Map<BrowserType, Usage> USAGE = new EnumMap<>(BrowserType.class);
+    
+    private static URL endpoint;
+    private static GridSlots slots;
+    private static boolean shutdownHookInstalled;
+    
+    private LocalGrid() {
+    }
+    
+    public static boolean enabled() {
+        return ENABLED;
+    }
+    
+    public static boolean external() {
+        return !EXTERNAL_URL.isEmpty();
+    }
+    
+    public static WebDriver createDriver(BrowserType browser, Capabilities options) {
+        GridSlots available = start();
+        long waitNanos = available.acquire(browser);
+        boolean created = false;
+        try {
+            long start = System.nanoTime();
+            GridSession driver = new GridSession(endpoint, options, browser, available);
+            long startNanos = System.nanoTime() - start;
+            usage(browser).created(waitNanos, startNanos);
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("browser", browser.displayName());
+            fields.put("queueMs", waitNanos / 1_000_000L);
+            fields.put("startMs", startNanos / 1_000_000L);
+            RunReport.event("gridSession", fields);
+            created = true;
+            return driver;
+        } finally {
+            if (!created) {
+                available.release();
+            }
+        }
+    }
+    
+    public static void shutdown() {
+        printSummary();
+        stopProcesses();
+    }
+    
+    private static synchronized GridSlots start() {
+        if (slots != null) {
+            return slots;
+        }
+        try {
+            if (external()) {
+                endpoint = new URL(EXTERNAL_URL);
+                System.out.println("✓ Using Selenium Grid at " + endpoint);
+            } else {
+                launch();
+            }
+        } catch (IOException e) {
+            stopProcesses();
+            throw new WebDriverException("Failed to start local Selenium Grid: " + e.getMessage(), e);
+        }
+        slots = new GridSlots(NODES * SESSIONS_PER_NODE, SLOT_TIMEOUT_MS, DriverPool::evictIdleExcept);
+        return slots;
+    }
+    
+    private static void launch() throws IOException {
+        for (BrowserType browser : BrowserType.values()) {
+            try {
+                DriverBinaries.ensure(browser);
+            } catch (RuntimeException e) {
+                System.out.println("  ⚠ " + browser.displayName() + " driver unavailable for Grid nodes: " + e.getMessage());
+            }
+        }
+        Files.createDirectories(LOG_DIR);
+        if (!shutdownHookInstalled) {
+            Runtime.getRuntime().addShutdownHook(new Thread(LocalGrid::stopProcesses, "grid-shutdown"));
+            shutdownHookInstalled = true;
+        }
+        long start = System.nanoTime();
+        String base = "http://127.0.0.1:" + PORT;
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (SESSIONS_PER_NODE > cores) {
+            System.out.println("  ⚠ grid.maxSessions " + SESSIONS_PER_NODE + " exceeds the " + cores +
+                               " CPU core(s); starting nodes with --override-max-sessions");
+        }
+        if (HUB_MODE) {
+            spawn("hub", "hub", "--port", String.valueOf(PORT));
+            for (int i = 1; i <= NODES; i++) {
+                spawn("node-" + i, nodeArgs(cores, "node", "--port", String.valueOf(PORT + i), "--hub", base));
+            }
+        } else {
+            spawn("standalone", nodeArgs(cores, "standalone", "--port", String.valueOf(PORT)));
+        }
+        awaitReady(base);
+        endpoint = new URL(base);
+        System.out.println("✓ Selenium Grid (" + (HUB_MODE ? "hub" : "standalone") + ") ready at " + base + " in " +
+                           (System.nanoTime() - start) / 1_000_000L + " ms: " + NODES + " node(s) x " +
+                           SESSIONS_PER_NODE + " session(s)");
+    }
+    
+    /**
+     * Appends the session settings of a node to {@code args}. A node caps {@code --max-sessions} at
+     * the CPU core count unless {@code --override-max-sessions} is also given.
+     */
+    private static String[] nodeArgs(int cores, String... args) {
+        List<String> command = new ArrayList<>(Arrays.asList(args));
+        Collections.addAll(command, "--max-sessions", String.valueOf(SESSIONS_PER_NODE), "--detect-drivers", "true");
+        if (SESSIONS_PER_NODE > cores) {
+            Collections.addAll(command, "--override-max-sessions", "true");
+        }
+        return command.toArray(new String[0]);
+    }
+    
+    private static void spawn(String name, String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        for (BrowserType browser : BrowserType.values()) {
+            String path = System.getProperty(browser.driverPathProperty());
+            if (path != null) {
+                command.add("-D" + browser.driverPathProperty() + "=" + path);
+            }
+        }
+        String jar = TestConfig.stringProperty("grid.jar", "");
+        if (jar.isEmpty()) {
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(MAIN_CLASS);
+        } else {
+            command.add("-jar");
+            command.add(jar);
+        }
+        command.addAll(Arrays.asList(args));
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(LOG_DIR.resolve(name + ".log").toFile())
+                .start();
+        PROCESSES.add(process);
+    }
+    
+    private static void awaitReady(String base) throws IOException {
+        long deadline = System.nanoTime() + START_TIMEOUT_MS * 1_000_000L;
+        while (!isReady(base)) {
+            for (Process process : PROCESSES) {
+                if (!process.isAlive()) {
+                    throw new IOException("Grid process exited with code " + process.exitValue() + ", see " + LOG_DIR);
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new IOException("Grid not ready after " + START_TIMEOUT_MS + " ms, see " + LOG_DIR);
+            }
+            try {
+                Thread.sleep(POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the Grid");
+            }
+        }
+    }
+    
+    private static boolean isReady(String base) {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(base + "/status").openConnection();
+            connection.setConnectTimeout(1000);
+            connection.setReadTimeout(2000);
+            try (InputStream in = connection.getInputStream()) {
+                Map<String, Object> status = JSON.toType(new String(in.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+                Object value = status.get("value");
+                if (!(value instanceof Map)) {
+                    return false;
+                }
+                Map<?, ?> grid = (Map<?, ?>) value;
+                Object nodes = grid.get("nodes");
+                return Boolean.TRUE.equals(grid.get("ready")) && nodes instanceof List && ((List<?>) nodes).size() >= NODES;
+            }
+        } catch (IOException e) {
+            return false;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+    
+    private static synchronized void stopProcesses() {
+        for (Process process : PROCESSES) {
+            process.destroy();
+        }
+        for (Process process : PROCESSES) {
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+        PROCESSES.clear();
+        slots = null;
+    }
+    
+    private static Usage usage(BrowserType browser) {
+        synchronized (USAGE) {
+            return USAGE.computeIfAbsent(browser, key -> new Usage());
+        }
+    }
+    
+    private static void printSummary() {
+        synchronized (USAGE) {
+            if (USAGE.isEmpty()) {
+                return;
+            }
+            System.out.println("\n=== Grid Summary ===");
+            System.out.println("Endpoint: " + endpoint + ", " + NODES + " node(s) x " + SESSIONS_PER_NODE + " session(s)");
+            for (Map.Entry<BrowserType, Usage> entry : USAGE.entrySet()) {
+                Usage usage = entry.getValue();
+                System.out.println(entry.getKey().displayName() + ": " + usage.sessions + " session(s)" +
+                                   ", queue wait avg " + usage.queueNanos / usage.sessions / 1_000_000L +
+                                   " ms (max " + usage.maxQueueNanos / 1_000_000L + " ms)" +
+                                   ", session start avg " + usage.startNanos / usage.sessions / 1_000_000L + " ms" +
+                                   (usage.finished > 0
+                                        ? ", execution avg " + usage.executionNanos / usage.finished / 1_000_000L + " ms"
+                                        : ""));
+            }
+        }
+    }
+    
+    private static final class Usage {
+        
+        long sessions;
+        long queueNanos;
+        long maxQueueNanos;
+        long startNanos;
+        long finished;
+        long executionNanos;
+        
+        void created(long waitNanos, long startupNanos) {
+            synchronized (USAGE) {
+                sessions++;
+                queueNanos += waitNanos;
+                maxQueueNanos = Math.max(maxQueueNanos, waitNanos);
+                startNanos += startupNanos;
+            }
+        }
+        
+        void finished(long nanos) {
+            synchronized (USAGE) {
+                finished++;
+                executionNanos += nanos;
+            }
+        }
+    }
+    
+    /**
+     * Remote session that hands its Grid slot back when it is quit.
+     */
+    private static final class GridSession extends RemoteWebDriver {
+        
+        private final BrowserType browser;
+        private final GridSlots available;
+        private final long createdAt = System.nanoTime();
+        private boolean released;
+        
+        GridSession(URL endpoint, Capabilities options, BrowserType browser, GridSlots available) {
+            super(endpoint, options);
+            this.browser = browser;
+            this.available = available;
+        }
+        
+        @Override
+        public void quit() {
+            try {
+                super.quit();
+            } finally {
+                release();
+            }
+        }
+        
+        private synchronized void release() {
+            if (!released) {
+                released = true;
+                available.release();
+                usage(browser).finished(System.nanoTime() - createdAt);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.selenium.tests;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.platform.suite.api.SelectClasses;
+
+/**
+ * Starts the browser session for the next test class of {@link TestSuite} in the background
+ * while the current class is still running, so the browser launch leaves the critical path.
+ * The order comes from {@code @SelectClasses}. A class named after Chrome or Firefox uses that
+ * browser; any other class runs through the {@link ScenarioEngine} on all scenario browsers.
+ * Disable with {@code -Dpool.lookahead=false}.
+ */
+public final class LookaheadLauncher {
+    
+    private static final boolean ENABLED = TestConfig.booleanProperty("pool.lookahead", true);
+    private static final List<Class<?>> SUITE_ORDER = suiteOrder();
+    
+    private LookaheadLauncher() {
+    }
+    
+    public static void classStarting(Class<?> testClass) {
+        if (!ENABLED) {
+            return;
+        }
+        prewarm(testClass);
+        int index = SUITE_ORDER.indexOf(testClass);
+        if (index >= 0 && index + 1 < SUITE_ORDER.size()) {
+            prewarm(SUITE_ORDER.get(index + 1));
+        }
+    }
+    
+    static List<BrowserType> browsersOf(Class<?> testClass) {
+        String name = testClass.getSimpleName();
+        if (name.contains("Firefox")) {
+            return Collections.singletonList(BrowserType.FIREFOX);
+        }
+        if (name.contains("Chrome")) {
+            return Collections.singletonList(BrowserType.CHROME);
+        }
+        return ScenarioEngine.browsers();
+    }
+    
+    private static void prewarm(Class<?> testClass) {
+        for (BrowserType browser : browsersOf(testClass)) {
+            DriverPool.prewarm(browser);
+        }
+    }
+    
+    private static List<Class<?>> suiteOrder() {
+        SelectClasses selected = TestSuite.class.getAnnotation(SelectClasses.class);
+        return selected == null ? Collections.emptyList() : Arrays.asList(selected.value());
+    }
+}
@@ -0,0 +1,111 @@
+package com.selenium.tests;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Waits until a page has actually settled instead of sleeping for a fixed time. A page
+ * counts as settled once {@code document.readyState} is {@code complete}, no XHR or fetch
+ * request started by the page is in flight, and the DOM has not changed for
+ * {@code readiness.quietMs}. Waiting never exceeds {@code readiness.timeoutMs}.
+ */
+public final class PageReadiness {
+    
+    private static final long TIMEOUT_MS = TestConfig.intProperty("readiness.timeoutMs", 10000);
+    private static final long QUIET_MS = TestConfig.intProperty("readiness.quietMs", 300);
+    private static final long POLL_MS = 50;
+    
+    private static final String PROBE_SCRIPT =
+        "var w = window;" +
+        "if (!w.__readiness) {" +
+        "  var r = w.__readiness = { pending: 0, lastChange: Date.now(), mutations: 0 };" +
+        "  var done = function() { r.pending--; r.lastChange = Date.now(); };" +
+        "  var send = XMLHttpRequest.prototype.send;" +
+        "  XMLHttpRequest.prototype.send = function() {" +
+        "    r.pending++; this.addEventListener('loadend', done); return send.apply(this, arguments); };" +
+        "  if (w.fetch) {" +
+        "    var nativeFetch = w.fetch;" +
+        "    w.fetch = function() {" +
+        "      r.pending++;" +
+        "      return nativeFetch.apply(this, arguments).then(" +
+        "        function(v) { done(); return v; }, function(e) { done(); throw e; }); }; }" +
+        "  new MutationObserver(function() { r.mutations++; r.lastChange = Date.now(); })" +
+        "    .observe(document, { subtree: true, childList: true, attributes: true, characterData: true });" +
+        "}" +
+        "return [document.readyState, w.__readiness.pending, Date.now() - w.__readiness.lastChange];";
+    
+    private static final AtomicLong SETTLED = new AtomicLong();
+    private static final AtomicLong TIMED_OUT = new AtomicLong();
+    private static final AtomicLong TOTAL_MILLIS = new AtomicLong();
+    private static final AtomicLong MAX_MILLIS = new AtomicLong();
+    
+    private PageReadiness() {
+    }
+    
+    public static long navigate(WebDriver driver, String url) {
+        return StepTimer.time(driver, "navigate", () -> {
+            long start = System.nanoTime();
+            driver.get(url);
+            return awaitSettled(driver, start);
+        });
+    }
+    
+    private static long awaitSettled(WebDriver driver, long startNanos) {
+        long deadline = startNanos + TIMEOUT_MS * 1_000_000L;
+        boolean settled = false;
+        while (true) {
+            try {
+                settled = isSettled(driver);
+            } catch (WebDriverException e) {
+                settled = false;
+            }
+            if (settled || System.nanoTime() >= deadline) {
+                break;
+            }
+            try {
+                Thread.sleep(POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long elapsedMillis = elapsedNanos / 1_000_000L;
+        ProfileBaseline.recordNavigation(elapsedNanos);
+        TOTAL_MILLIS.addAndGet(elapsedMillis);
+        MAX_MILLIS.accumulateAndGet(elapsedMillis, Math::max);
+        if (settled) {
+            SETTLED.incrementAndGet();
+            System.out.println("  ⏱ Page settled in " + elapsedMillis + " ms");
+        } else {
+            TIMED_OUT.incrementAndGet();
+            System.out.println("  ⚠ Page not settled after " + elapsedMillis + " ms, continuing");
+        }
+        return elapsedMillis;
+    }
+    
+    private static boolean isSettled(WebDriver driver) {
+        Object result = ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT);
+        if (!(result instanceof List)) {
+            return false;
+        }
+        List<?> probe = (List<?>) result;
+        return "complete".equals(probe.get(0))
+               && ((Number) probe.get(1)).longValue() <= 0
+               && ((Number) probe.get(2)).longValue() >= QUIET_MS;
+    }
+    
+    public static void printSummary() {
+        long count = SETTLED.get() + TIMED_OUT.get();
+        if (count == 0) {
+            return;
+        }
+        System.out.println("\n=== Page Readiness Summary ===");
+        System.out.println("Navigations: " + count + ", settled: " + SETTLED.get() + ", timed out: " + TIMED_OUT.get());
+        System.out.println("Settle time - avg: " + TOTAL_MILLIS.get() / count + " ms, max: " + MAX_MILLIS.get() + " ms");
+    }
+}
@@ -0,0 +1,116 @@
+package com.selenium.tests;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Opens a page on a possibly reused session by putting the already loaded document back into
+ * its initial state instead of navigating again. Form controls get their default values and
+ * checked/selected states back, inline styles of elements with an id are restored, focus is
+ * dropped and the page is scrolled to the top. A full navigation through {@link PageReadiness}
+ * happens when the session shows another page, the document was reloaded, or its structural
+ * fingerprint no longer matches the one recorded after the last navigation. Disabled with
+ * {@code -Dpage.fastReset=false}.
+ */
+public final class PageReset {
+    
+    private static final boolean ENABLED = TestConfig.booleanProperty("page.fastReset", true);
+    
+    private static final String RESET_SCRIPT =
+        "var url = arguments[0], record = arguments[1], state = window.__pageReset;" +
+        "function strip(u) { var i = u.indexOf('#'); return i < 0 ? u : u.substring(0, i); }" +
+        "function fingerprint() {" +
+        "  var nodes = document.querySelectorAll('input, select, textarea, button, a, table, iframe, form');" +
+        "  var text = document.title;" +
+        "  for (var i = 0; i < nodes.length; i++) {" +
+        "    text += '|' + nodes[i].tagName + '#' + nodes[i].id + '@' + (nodes[i].getAttribute('name') || ''); }" +
+        "  var hash = 0;" +
+        "  for (var j = 0; j < text.length; j++) { hash = (hash * 31 + text.charCodeAt(j)) | 0; }" +
+        "  return nodes.length + ':' + hash;" +
+        "}" +
+        "if (record) {" +
+        "  var styles = {}, ids = document.querySelectorAll('[id]');" +
+        "  for (var k = 0; k < ids.length; k++) { styles[ids[k].id] = ids[k].style.cssText; }" +
+        "  window.__pageReset = { url: strip(url), href: strip(location.href), version: fingerprint(), styles: styles };" +
+        "  return 'recorded';" +
+        "}" +
+        "if (!state || state.url !== strip(url) || state.href !== strip(location.href)) { return 'navigate'; }" +
+        "if (state.version !== fingerprint()) { return 'changed'; }" +
+        "var controls = document.querySelectorAll('input, textarea, select');" +
+        "for (var c = 0; c < controls.length; c++) {" +
+        "  var control = controls[c], type = (control.type || '').toLowerCase();" +
+        "  if (control.tagName === 'SELECT') {" +
+        "    for (var o = 0; o < control.options.length; o++) {" +
+        "      control.options[o].selected = control.options[o].defaultSelected; }" +
+        "  } else if (type === 'checkbox' || type === 'radio') {" +
+        "    control.checked = control.defaultChecked;" +
+        "  } else if (type === 'file') {" +
+        "    control.value = '';" +
+        "  } else if (type !== 'button' && type !== 'submit' && type !== 'reset' && type !== 'hidden') {" +
+        "    control.value = control.defaultValue;" +
+        "  }" +
+        "}" +
+        "for (var id in state.styles) {" +
+        "  var element = document.getElementById(id);" +
+        "  if (element) { element.style.cssText = state.styles[id]; }" +
+        "}" +
+        "if (document.activeElement && document.activeElement !== document.body && document.activeElement.blur) {" +
+        "  document.activeElement.blur(); }" +
+        "window.scrollTo(0, 0);" +
+        "return 'reset';";
+    
+    private static final AtomicLong RESETS = new AtomicLong();
+    private static final AtomicLong RESET_MILLIS = new AtomicLong();
+    private static final AtomicLong NAVIGATIONS = new AtomicLong();
+    private static final AtomicLong CHANGED = new AtomicLong();
+    
+    private PageReset() {
+    }
+    
+    public static long open(WebDriver driver, String url) {
+        if (ENABLED) {
+            long start = System.nanoTime();
+            String outcome;
+            try {
+                outcome = StepTimer.time(driver, "page reset",
+                        () -> String.valueOf(((JavascriptExecutor) driver).executeScript(RESET_SCRIPT, url, false)));
+            } catch (WebDriverException e) {
+                outcome = "failed";
+            }
+            if ("reset".equals(outcome)) {
+                long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+                RESETS.incrementAndGet();
+                RESET_MILLIS.addAndGet(elapsedMillis);
+                System.out.println("  ⏱ Page reset in place in " + elapsedMillis + " ms");
+                return elapsedMillis;
+            }
+            if ("changed".equals(outcome)) {
+                CHANGED.incrementAndGet();
+                System.out.println("  ⚠ Page structure changed since last load, navigating again");
+            }
+        }
+        long elapsedMillis = PageReadiness.navigate(driver, url);
+        NAVIGATIONS.incrementAndGet();
+        if (ENABLED) {
+            try {
+                ((JavascriptExecutor) driver).executeScript(RESET_SCRIPT, url, true);
+            } catch (WebDriverException e) {
+                System.out.println("  ⚠ Could not record page state for reset: " + e.getMessage());
+            }
+        }
+        return elapsedMillis;
+    }
+    
+    public static void printSummary() {
+        long resets = RESETS.get();
+        if (resets + NAVIGATIONS.get() == 0) {
+            return;
+        }
+        System.out.println("\n=== Page Reset Summary ===");
+        System.out.println("Reset in place: " + resets + (resets > 0 ? " (avg " + RESET_MILLIS.get() / resets + " ms)" : "")
+                           + ", full navigations: " + NAVIGATIONS.get() + " (structure changed: " + CHANGED.get() + ")");
+    }
+}
@@ -0,0 +1,123 @@
+package com.selenium.tests;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Records browser startup, page navigation and explicit wait times for the active
+ * {@link BrowserProfile} and keeps their medians, together with the median of every
+ * {@link StepTimer} step per browser, per profile in {@code profile.baselineFile}.
+ * At suite end the current run is compared against the stored numbers of the other profiles,
+ * so running once with each profile shows the speed-up of {@code fast} over {@code default}.
+ */
+public final class ProfileBaseline {
+    
+    private static final Path BASELINE_FILE = Paths.get(
+            TestConfig.stringProperty("profile.baselineFile", "target/profile-baseline.properties"));
+    
+    private static final Map<String, LatencyHistogram> METRICS = new LinkedHashMap<>();
+    
+    static {
+        METRICS.put("startup", new LatencyHistogram());
+        METRICS.put("navigation", new LatencyHistogram());
+        METRICS.put("wait", new LatencyHistogram());
+    }
+    
+    private ProfileBaseline() {
+    }
+    
+    public static void recordStartup(long nanos) {
+        METRICS.get("startup").record(nanos);
+    }
+    
+    public static void recordNavigation(long nanos) {
+        METRICS.get("navigation").record(nanos);
+    }
+    
+    public static void recordWait(long nanos) {
+        METRICS.get("wait").record(nanos);
+    }
+    
+    public static void printSummary() {
+        Map<String, LatencyHistogram> metrics = new LinkedHashMap<>(METRICS);
+        for (Map.Entry<String, LatencyHistogram> step : StepTimer.histograms().entrySet()) {
+            metrics.put("step " + step.getKey(), step.getValue());
+        }
+        if (metrics.values().stream().allMatch(histogram -> histogram.count() == 0)) {
+            return;
+        }
+        String profile = BrowserProfile.active().key();
+        Properties baseline = load();
+        System.out.println("\n=== Browser Profile Summary (" + profile + ") ===");
+        for (Map.Entry<String, LatencyHistogram> entry : metrics.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            if (histogram.count() == 0) {
+                continue;
+            }
+            String key = propertyKey(entry.getKey());
+            double median = LatencyHistogram.millis(histogram.percentileNanos(50));
+            System.out.println(entry.getKey() + ": " + histogram.summary());
+            for (BrowserProfile other : BrowserProfile.values()) {
+                String value = baseline.getProperty(other.key() + "." + key + ".p50Ms");
+                if (other == BrowserProfile.active() || value == null) {
+                    continue;
+                }
+                double otherMedian = parseMillis(value);
+                if (median > 0 && otherMedian >= 0) {
+                    System.out.println(String.format("  vs %s: p50 %.1f ms -> %.1f ms (%.2fx)",
+                            other.key(), otherMedian, median, otherMedian / median));
+                }
+            }
+            baseline.setProperty(profile + "." + key + ".p50Ms", String.format(Locale.ROOT, "%.1f", median));
+            baseline.setProperty(profile + "." + key + ".count", String.valueOf(histogram.count()));
+        }
+        store(baseline);
+    }
+    
+    private static String propertyKey(String metric) {
+        return metric.replaceAll("[^A-Za-z0-9./]+", "_");
+    }
+    
+    private static double parseMillis(String value) {
+        try {
+            return Double.parseDouble(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            System.out.println("⚠ Ignoring unreadable profile baseline value '" + value + "'");
+            return -1;
+        }
+    }
+    
+    private static Properties load() {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(BASELINE_FILE)) {
+            try (InputStream in = Files.newInputStream(BASELINE_FILE)) {
+                properties.load(in);
+            } catch (IOException e) {
+                System.out.println("⚠ Failed to read profile baseline: " + e.getMessage());
+            }
+        }
+        return properties;
+    }
+    
+    private static void store(Properties properties) {
+        try {
+            Path parent = BASELINE_FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(BASELINE_FILE)) {
+                properties.store(out, "Median timings per browser profile");
+            }
+        } catch (IOException e) {
+            System.out.println("⚠ Failed to write profile baseline: " + e.getMessage());
+        }
+    }
+}
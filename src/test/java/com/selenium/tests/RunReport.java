@@ -0,0 +1,164 @@
+package com.selenium.tests;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.json.Json;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Streams structured run events (test start and end, step start and end with timing, element
+ * lookups, screenshots and errors) as one JSON object per line into
+ * {@code report.dir/<runId>.jsonl}. Test threads only offer events to a bounded queue; a
+ * background thread serialises and writes them through a buffered writer. When the queue is
+ * full the event is dropped and counted rather than blocking the test.
+ */
+public final class RunReport {
+    
+    private static final boolean ENABLED = TestConfig.booleanProperty("report.enabled", true);
+    private static final Path REPORT_DIR = Paths.get(TestConfig.stringProperty("report.dir", "target/run-reports"));
+    private static final int QUEUE_CAPACITY = Math.max(64, TestConfig.intProperty("report.queueCapacity", 4096));
+    private static final String NO_TEST = "(outside tests)";
+    
+    private static final ThreadLocal<String> CURRENT_TEST = ThreadLocal.withInitial(() -> NO_TEST);
+    private static RunReport instance;
+    
+    private final Path file;
+    private final BlockingQueue<Map<String, Object>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean closed;
+    
+    private RunReport(Path file) {
+        this.file = file;
+        this.writerThread = new Thread(this::drain, "run-report-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+    
+    public static void testStarted(String testName) {
+        CURRENT_TEST.set(testName);
+        event("testStart");
+    }
+    
+    public static void testFinished(Throwable error) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("status", error == null ? "passed" : error instanceof TestAbortedException ? "skipped" : "failed");
+        if (error != null) {
+            fields.put("error", error.getClass().getName() + ": " + error.getMessage());
+        }
+        event("testEnd", fields);
+        CURRENT_TEST.remove();
+    }
+    
+    public static String currentTest() {
+        return CURRENT_TEST.get();
+    }
+    
+    public static void attachThread(String testName) {
+        CURRENT_TEST.set(testName);
+    }
+    
+    public static void detachThread() {
+        CURRENT_TEST.remove();
+    }
+    
+    public static void event(String type) {
+        event(type, new LinkedHashMap<>());
+    }
+    
+    public static void event(String type, Map<String, Object> fields) {
+        eventFor(CURRENT_TEST.get(), type, fields);
+    }
+    
+    public static void eventFor(String test, String type, Map<String, Object> fields) {
+        if (!ENABLED) {
+            return;
+        }
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("ts", System.currentTimeMillis());
+        event.put("run", TestConfig.runId());
+        event.put("test", test);
+        event.put("type", type);
+        event.putAll(fields);
+        RunReport report = instance();
+        if (!report.closed && !report.queue.offer(event)) {
+            report.dropped.incrementAndGet();
+        }
+    }
+    
+    public static void close() {
+        RunReport report;
+        synchronized (RunReport.class) {
+            report = instance;
+            instance = null;
+        }
+        if (report == null) {
+            return;
+        }
+        report.closed = true;
+        try {
+            report.writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("\n=== Run Report ===");
+        System.out.println("Events written: " + report.written.get() + ", dropped: " + report.dropped.get() +
+                           " -> " + report.file);
+    }
+    
+    private static synchronized RunReport instance() {
+        if (instance == null) {
+            instance = new RunReport(REPORT_DIR.resolve(TestConfig.runId() + ".jsonl"));
+        }
+        return instance;
+    }
+    
+    private void drain() {
+        Json json = new Json();
+        List<Map<String, Object>> batch = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        try {
+            Files.createDirectories(REPORT_DIR);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                while (!closed || !queue.isEmpty()) {
+                    Map<String, Object> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch);
+                    for (Map<String, Object> event : batch) {
+                        line.setLength(0);
+                        json.newOutput(line).setPrettyPrint(false).write(event);
+                        writer.append(line).append('\n');
+                    }
+                    written.addAndGet(batch.size());
+                    batch.clear();
+                    if (queue.isEmpty()) {
+                        writer.flush();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("⚠ Failed to write run report " + file + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
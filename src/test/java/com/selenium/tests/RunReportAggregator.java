@@ -0,0 +1,116 @@
+package com.selenium.tests;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openqa.selenium.json.Json;
+
+/**
+ * Rolls the JSONL files written by {@link RunReport} up into a timing trend: one line per run
+ * (oldest first) with test and failure counts and total test time, followed by the p50 of every
+ * browser/step across those runs.
+ * Usage: {@code RunReportAggregator [reportDir] [lastRuns]}.
+ */
+public final class RunReportAggregator {
+    
+    private RunReportAggregator() {
+    }
+    
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "target/run-reports");
+        int lastRuns = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(".jsonl"))
+                           .sorted()
+                           .collect(Collectors.toList());
+        }
+        if (files.size() > lastRuns) {
+            files = files.subList(files.size() - lastRuns, files.size());
+        }
+        List<RunSummary> runs = new ArrayList<>();
+        Set<String> steps = new TreeSet<>();
+        for (Path file : files) {
+            RunSummary run = summarise(file);
+            runs.add(run);
+            steps.addAll(run.steps.keySet());
+        }
+        System.out.println("=== Run Timing Trend (" + runs.size() + " runs from " + dir + ") ===");
+        System.out.println(String.format("%-26s %6s %7s %10s", "run", "tests", "failed", "test ms"));
+        for (RunSummary run : runs) {
+            System.out.println(String.format("%-26s %6d %7d %10.0f", run.runId, run.tests, run.failed, run.testMillis));
+        }
+        System.out.println("\n=== Step p50 per Run (ms, oldest first) ===");
+        for (String step : steps) {
+            StringBuilder line = new StringBuilder(step).append(":");
+            for (RunSummary run : runs) {
+                LatencyHistogram histogram = run.steps.get(step);
+                line.append(histogram == null ? " -"
+                        : String.format(" %.1f", LatencyHistogram.millis(histogram.percentileNanos(50))));
+            }
+            System.out.println(line);
+        }
+    }
+    
+    private static RunSummary summarise(Path file) throws IOException {
+        Json json = new Json();
+        String fileName = file.getFileName().toString();
+        RunSummary run = new RunSummary(fileName.substring(0, fileName.length() - ".jsonl".length()));
+        Map<String, Long> testStarts = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                Map<String, Object> event = json.toType(line, Json.MAP_TYPE);
+                String type = String.valueOf(event.get("type"));
+                String test = String.valueOf(event.get("test"));
+                long timestamp = event.get("ts") instanceof Number ? ((Number) event.get("ts")).longValue() : 0L;
+                if ("testStart".equals(type)) {
+                    testStarts.put(test, timestamp);
+                } else if ("testEnd".equals(type)) {
+                    run.tests++;
+                    Long started = testStarts.remove(test);
+                    if (started != null) {
+                        run.testMillis += timestamp - started;
+                    }
+                    if ("failed".equals(event.get("status"))) {
+                        run.failed++;
+                    }
+                } else if ("stepEnd".equals(type) && event.get("durationMs") instanceof Number) {
+                    double millis = ((Number) event.get("durationMs")).doubleValue();
+                    String step = event.get("browser") + "/" + event.get("step");
+                    run.steps.computeIfAbsent(step, key -> new LatencyHistogram()).record((long) (millis * 1_000_000L));
+                }
+            }
+        }
+        return run;
+    }
+    
+    private static final class RunSummary {
+        
+        final String runId;
+        final Map<String, LatencyHistogram> steps = new LinkedHashMap<>();
+        int tests;
+        int failed;
+        double testMillis;
+        
+        RunSummary(String runId) {
+            this.runId = runId;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.selenium.tests;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assumptions;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Runs one browser-independent scenario on every browser in {@code scenario.browsers}
+ * (default {@code chrome,firefox}) at the same time, each on its own thread with its own pooled
+ * session. Per-browser timings are printed side by side once all browsers are done. A browser
+ * that is not installed, or whose driver binary is missing, is reported and skipped, and the test
+ * is aborted when no browser could run; any other failure fails the test.
+ */
+public final class ScenarioEngine {
+    
+    private static final List<BrowserType> BROWSERS = parseBrowsers(
+            TestConfig.stringProperty("scenario.browsers", "chrome,firefox"));
+    
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "scenario-" + THREAD_IDS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private static final List<String> SUMMARY = Collections.synchronizedList(new ArrayList<>());
+    
+    @FunctionalInterface
+    public interface Scenario {
+        void run(ScenarioSession session) throws Exception;
+    }
+    
+    private ScenarioEngine() {
+    }
+    
+    public static List<BrowserType> browsers() {
+        return BROWSERS;
+    }
+    
+    public static void run(String name, Duration waitTimeout, Scenario scenario) {
+        String test = RunReport.currentTest();
+        long start = System.nanoTime();
+        Map<BrowserType, Future<Outcome>> futures = new LinkedHashMap<>();
+        for (BrowserType browser : BROWSERS) {
+            futures.put(browser, WORKERS.submit(() -> runOn(browser, test, waitTimeout, scenario)));
+        }
+        Map<BrowserType, Outcome> outcomes = new LinkedHashMap<>();
+        for (Map.Entry<BrowserType, Future<Outcome>> entry : futures.entrySet()) {
+            outcomes.put(entry.getKey(), await(entry.getValue()));
+        }
+        long wallNanos = System.nanoTime() - start;
+        report(name, outcomes, wallNanos);
+        
+        AssertionError failure = null;
+        boolean anyRan = false;
+        for (Map.Entry<BrowserType, Outcome> entry : outcomes.entrySet()) {
+            Outcome outcome = entry.getValue();
+            anyRan |= !outcome.skipped;
+            if (outcome.error != null) {
+                AssertionError error = new AssertionError(entry.getKey().displayName() + " failed: " +
+                        outcome.error.getMessage(), outcome.error);
+                if (failure == null) {
+                    failure = error;
+                } else {
+                    failure.addSuppressed(error);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        Assumptions.assumeTrue(anyRan, "No browser available to run " + name);
+    }
+    
+    public static void printSummary() {
+        if (SUMMARY.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== Cross-Browser Scenario Summary ===");
+        synchronized (SUMMARY) {
+            for (String line : SUMMARY) {
+                System.out.println(line);
+            }
+        }
+    }
+    
+    private static Outcome runOn(BrowserType browser, String test, Duration waitTimeout, Scenario scenario) {
+        String threadTest = test + " [" + browser.displayName() + "]";
+        RunReport.attachThread(threadTest);
+        CommandTracer.testStarted(threadTest);
+        long start = System.nanoTime();
+        WebDriver driver = null;
+        Outcome outcome;
+        try {
+            driver = acquire(browser);
+            if (driver == null) {
+                outcome = new Outcome(System.nanoTime() - start, true, null);
+            } else {
+                scenario.run(new ScenarioSession(browser, driver, new AdaptiveWait(driver, waitTimeout)));
+                outcome = new Outcome(System.nanoTime() - start, false, null);
+            }
+        } catch (Throwable e) {
+            if (driver != null) {
+                ScreenshotService.captureFailure(driver, ScenarioSession.screenshotName(browser, "Failure"));
+            }
+            outcome = new Outcome(System.nanoTime() - start, false, e);
+        } finally {
+            if (driver != null) {
+                DriverPool.release(driver);
+            }
+        }
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("browser", browser.name().toLowerCase(Locale.ROOT));
+        fields.put("status", outcome.status());
+        fields.put("durationMs", LatencyHistogram.millis(outcome.nanos));
+        if (outcome.error != null) {
+            fields.put("error", outcome.error.getClass().getName() + ": " + outcome.error.getMessage());
+        }
+        RunReport.event("scenarioEnd", fields);
+        ScreenshotService.testFinished(outcome.error);
+        CommandTracer.testFinished();
+        RunReport.detachThread();
+        return outcome;
+    }
+    
+    /**
+     * Leases a prepared session, or returns {@code null} when the browser or its driver binary is
+     * not installed here. Any other setup failure fails the scenario.
+     */
+    private static WebDriver acquire(BrowserType browser) {
+        WebDriver driver;
+        try {
+            driver = DriverPool.acquire(browser);
+        } catch (SessionNotCreatedException e) {
+            System.out.println("\n⚠ " + browser.displayName() + " browser is not installed or not found: " + e.getMessage());
+            return null;
+        }
+        try {
+            BrowserProfile.active().prepareWindow(driver);
+        } catch (RuntimeException e) {
+            DriverPool.release(driver);
+            throw e;
+        }
+        return driver;
+    }
+    
+    private static Outcome await(Future<Outcome> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(0, false, e);
+        } catch (ExecutionException e) {
+            return new Outcome(0, false, e.getCause());
+        }
+    }
+    
+    private static void report(String name, Map<BrowserType, Outcome> outcomes, long wallNanos) {
+        long sequentialNanos = 0;
+        StringBuilder line = new StringBuilder(name).append(": ");
+        System.out.println("\n=== " + name + " - Cross-Browser Timing ===");
+        for (Map.Entry<BrowserType, Outcome> entry : outcomes.entrySet()) {
+            Outcome outcome = entry.getValue();
+            sequentialNanos += outcome.nanos;
+            String result = String.format("%s %s %.1f s", entry.getKey().displayName(), outcome.symbol(),
+                    outcome.nanos / 1e9);
+            System.out.println(String.format("%-8s %s in %.1f s", entry.getKey().displayName() + ":",
+                    outcome.symbol() + " " + outcome.status(), outcome.nanos / 1e9));
+            line.append(result).append(" | ");
+        }
+        String wall = String.format("wall %.1f s (sequential %.1f s)", wallNanos / 1e9, sequentialNanos / 1e9);
+        System.out.println("Wall time: " + wall.substring("wall ".length()));
+        SUMMARY.add(line.append(wall).toString());
+    }
+    
+    private static List<BrowserType> parseBrowsers(String value) {
+        List<BrowserType> browsers = new ArrayList<>();
+        for (String name : value.split(",")) {
+            if (name.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                browsers.add(BrowserType.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                System.out.println("⚠ Unknown browser '" + name.trim() + "' in scenario.browsers, ignoring");
+            }
+        }
+        if (browsers.isEmpty()) {
+            browsers.add(BrowserType.CHROME);
+        }
+        return Collections.unmodifiableList(browsers);
+    }
+    
+    private static final class Outcome {
+        
+        final long nanos;
+        final boolean skipped;
+        final Throwable error;
+        
+        Outcome(long nanos, boolean skipped, Throwable error) {
+            this.nanos = nanos;
+            this.skipped = skipped;
+            this.error = error;
+        }
+        
+        String status() {
+            return skipped ? "skipped" : error == null ? "passed" : "failed";
+        }
+        
+        String symbol() {
+            return skipped ? "⚠" : error == null ? "✓" : "✗";
+        }
+    }
+}
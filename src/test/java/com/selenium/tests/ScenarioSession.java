@@ -0,0 +1,85 @@
+package com.selenium.tests;
+
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+/**
+ * The browser-specific side of one {@link ScenarioEngine} run: the leased driver, its wait and
+ * helpers every scenario needs. Log lines are prefixed with the browser name because browsers
+ * run concurrently, and Firefox screenshot names get {@code Firefox} inserted after the step
+ * prefix ({@code Step3_LocatedByID} becomes {@code Step3_FirefoxLocatedByID}).
+ */
+public final class ScenarioSession {
+    
+    private final BrowserType browser;
+    private final WebDriver driver;
+    private final AdaptiveWait wait;
+    
+    ScenarioSession(BrowserType browser, WebDriver driver, AdaptiveWait wait) {
+        this.browser = browser;
+        this.driver = driver;
+        this.wait = wait;
+    }
+    
+    public BrowserType browser() {
+        return browser;
+    }
+    
+    public WebDriver driver() {
+        return driver;
+    }
+    
+    public AdaptiveWait waiter() {
+        return wait;
+    }
+    
+    public void log(String message) {
+        String prefix = "[" + browser.displayName() + "] ";
+        if (message.startsWith("\n")) {
+            System.out.println("\n" + prefix + message.substring(1));
+        } else {
+            System.out.println(prefix + message);
+        }
+    }
+    
+    public void screenshot(String stepName) {
+        ScreenshotService.capture(driver, screenshotName(browser, stepName));
+    }
+    
+    public void screenshot(String stepName, WebElement element) {
+        ScreenshotService.captureElement(driver, element, screenshotName(browser, stepName));
+    }
+    
+    public void failureScreenshot(String stepName) {
+        ScreenshotService.captureFailure(driver, screenshotName(browser, stepName));
+    }
+    
+    public void step(String stepName, Runnable action) {
+        StepTimer.time(driver, stepName, action);
+    }
+    
+    public <T> T step(String stepName, Supplier<T> action) {
+        return StepTimer.time(driver, stepName, action);
+    }
+    
+    public WebElement locate(By locator) {
+        return step("locate", () -> driver.findElement(locator));
+    }
+    
+    public WebElement locateWithWait(By locator) {
+        return step("locate", () -> wait.until(ExpectedConditions.presenceOfElementLocated(locator)));
+    }
+    
+    static String screenshotName(BrowserType browser, String stepName) {
+        if (browser != BrowserType.FIREFOX) {
+            return stepName;
+        }
+        int separator = stepName.indexOf('_');
+        return separator < 0 ? "Firefox" + stepName
+                : stepName.substring(0, separator + 1) + "Firefox" + stepName.substring(separator + 1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.selenium.tests;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Grabs only part of the page: an element's bounding box or a rectangle in CSS pixels of the
+ * document. Chromium sessions use the DevTools {@code Page.captureScreenshot} command, which
+ * crops, scales and encodes in the browser in the configured {@code screenshot.format},
+ * {@code screenshot.quality} and {@code screenshot.scale}, so the frame needs no further
+ * processing. Other sessions fall back to {@link WebElement#getScreenshotAs} for elements and to
+ * cropping a viewport screenshot for rectangles; those frames are PNG.
+ */
+public final class ScreenshotClip {
+    
+    private static final String VIEWPORT_SCRIPT =
+        "return [window.pageXOffset, window.pageYOffset, window.devicePixelRatio || 1];";
+    
+    private ScreenshotClip() {
+    }
+    
+    public static boolean encodesInBrowser(WebDriver driver) {
+        return driver instanceof HasCdp;
+    }
+    
+    public static byte[] element(WebDriver driver, WebElement element, ScreenshotProcessor processor) throws IOException {
+        if (encodesInBrowser(driver)) {
+            return capture((HasCdp) driver, element.getRect(), processor);
+        }
+        return element.getScreenshotAs(OutputType.BYTES);
+    }
+    
+    public static byte[] region(WebDriver driver, Rectangle clip, ScreenshotProcessor processor) throws IOException {
+        if (encodesInBrowser(driver)) {
+            return capture((HasCdp) driver, clip, processor);
+        }
+        return crop(driver, clip);
+    }
+    
+    private static byte[] capture(HasCdp devTools, Rectangle rect, ScreenshotProcessor processor) {
+        Map<String, Object> clip = new HashMap<>();
+        clip.put("x", rect.getX());
+        clip.put("y", rect.getY());
+        clip.put("width", Math.max(1, rect.getWidth()));
+        clip.put("height", Math.max(1, rect.getHeight()));
+        clip.put("scale", processor.scale());
+        Map<String, Object> params = new HashMap<>();
+        params.put("clip", clip);
+        params.put("captureBeyondViewport", true);
+        if ("jpg".equals(processor.extension())) {
+            params.put("format", "jpeg");
+            params.put("quality", Math.round(processor.quality() * 100));
+        } else {
+            params.put("format", "png");
+        }
+        Map<String, Object> result = devTools.executeCdpCommand("Page.captureScreenshot", params);
+        return Base64.getDecoder().decode((String) result.get("data"));
+    }
+    
+    private static byte[] crop(WebDriver driver, Rectangle clip) throws IOException {
+        List<?> viewport = (List<?>) ((JavascriptExecutor) driver).executeScript(VIEWPORT_SCRIPT);
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            throw new IOException("Screenshot is not a readable PNG");
+        }
+        Rectangle area = cropArea(clip, ((Number) viewport.get(0)).doubleValue(), ((Number) viewport.get(1)).doubleValue(),
+                ((Number) viewport.get(2)).doubleValue(), source.getWidth(), source.getHeight());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(source.getSubimage(area.getX(), area.getY(), area.getWidth(), area.getHeight()), "png", out);
+        return out.toByteArray();
+    }
+    
+    /**
+     * Maps a clip in document CSS pixels onto the pixels of a viewport screenshot taken at the
+     * given scroll offset and device pixel ratio, cut to the image and at least one pixel in size.
+     */
+    static Rectangle cropArea(Rectangle clip, double scrollX, double scrollY, double ratio, int imageWidth, int imageHeight) {
+        int x = clamp((int) Math.round((clip.getX() - scrollX) * ratio), imageWidth - 1);
+        int y = clamp((int) Math.round((clip.getY() - scrollY) * ratio), imageHeight - 1);
+        int width = clamp((int) Math.round(clip.getWidth() * ratio), imageWidth - x);
+        int height = clamp((int) Math.round(clip.getHeight() * ratio), imageHeight - y);
+        return new Rectangle(x, y, Math.max(1, height), Math.max(1, width));
+    }
+    
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+}
@@ -0,0 +1,38 @@
+package com.selenium.tests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Rectangle;
+
+public class ScreenshotClipTest {
+    
+    @Test
+    @DisplayName("A clip is shifted by the scroll offset and scaled by the device pixel ratio")
+    public void testCropAreaScrolledAndScaled() {
+        Rectangle area = ScreenshotClip.cropArea(new Rectangle(100, 700, 50, 200), 20, 600, 2.0, 1600, 1200);
+        
+        Assertions.assertEquals(160, area.getX());
+        Assertions.assertEquals(200, area.getY());
+        Assertions.assertEquals(400, area.getWidth());
+        Assertions.assertEquals(100, area.getHeight());
+    }
+    
+    @Test
+    @DisplayName("A clip reaching past the viewport is cut at the image edge")
+    public void testCropAreaCutToImage() {
+        Rectangle area = ScreenshotClip.cropArea(new Rectangle(700, 500, 300, 300), 0, 0, 1.0, 800, 600);
+        
+        Assertions.assertEquals(new Rectangle(700, 500, 100, 100), area);
+    }
+    
+    @Test
+    @DisplayName("A clip outside the viewport still yields a one pixel area inside the image")
+    public void testCropAreaOutsideViewport() {
+        Rectangle above = ScreenshotClip.cropArea(new Rectangle(10, 10, 20, 20), 0, 500, 1.0, 800, 600);
+        Rectangle beyond = ScreenshotClip.cropArea(new Rectangle(2000, 2000, 20, 20), 0, 0, 1.0, 800, 600);
+        
+        Assertions.assertEquals(0, above.getY());
+        Assertions.assertEquals(new Rectangle(799, 599, 1, 1), beyond);
+    }
+}
@@ -0,0 +1,19 @@
+package com.selenium.tests;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds screenshot names that stay unique when several tests capture in the same
+ * millisecond on different worker threads.
+ */
+public final class ScreenshotNames {
+    
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    
+    private ScreenshotNames() {
+    }
+    
+    public static String uniqueName(String stepName) {
+        return stepName + "_" + System.currentTimeMillis() + "_" + SEQUENCE.incrementAndGet();
+    }
+}
@@ -0,0 +1,133 @@
+package com.selenium.tests;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Optional downscaling and re-encoding of captured frames, applied on the screenshot
+ * writer threads before a frame is stored. With the default settings frames are kept
+ * as the original PNG bytes and no decoding happens at all.
+ */
+public final class ScreenshotProcessor {
+    
+    private final double scale;
+    private final String format;
+    private final float quality;
+    private final boolean encoded;
+    
+    public ScreenshotProcessor(double scale, String format, float quality) {
+        this.scale = scale <= 0 || scale > 1 ? 1.0 : scale;
+        this.format = normalizeFormat(format);
+        this.quality = Math.max(0.05f, Math.min(1.0f, quality));
+        this.encoded = false;
+    }
+    
+    private ScreenshotProcessor(ScreenshotProcessor settings) {
+        this.scale = settings.scale;
+        this.format = settings.format;
+        this.quality = settings.quality;
+        this.encoded = true;
+    }
+    
+    private static String normalizeFormat(String format) {
+        String normalized = format.toLowerCase(Locale.ROOT);
+        if ("jpeg".equals(normalized) || "jpg".equals(normalized)) {
+            return "jpg";
+        }
+        if (!"png".equals(normalized)) {
+            System.out.println("⚠ Unsupported screenshot format '" + format + "', using png");
+        }
+        return "png";
+    }
+    
+    public static ScreenshotProcessor fromSystemProperties() {
+        return new ScreenshotProcessor(
+                TestConfig.doubleProperty("screenshot.scale", 1.0),
+                TestConfig.stringProperty("screenshot.format", "png"),
+                (float) TestConfig.doubleProperty("screenshot.quality", 0.8));
+    }
+    
+    /**
+     * The same settings for frames the browser already scaled and encoded, which are stored as is.
+     */
+    public ScreenshotProcessor alreadyEncoded() {
+        return encoded ? this : new ScreenshotProcessor(this);
+    }
+    
+    public boolean isPassThrough() {
+        return encoded || (scale == 1.0 && "png".equals(format));
+    }
+    
+    public double scale() {
+        return scale;
+    }
+    
+    public float quality() {
+        return quality;
+    }
+    
+    public String extension() {
+        return format;
+    }
+    
+    public String variant() {
+        return isPassThrough() ? "" : "scale=" + scale + ";format=" + format + ";quality=" + quality;
+    }
+    
+    public byte[] process(byte[] png) throws IOException {
+        if (isPassThrough()) {
+            return png;
+        }
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) {
+            throw new IOException("Screenshot is not a readable PNG");
+        }
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        int imageType = "jpg".equals(format) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        BufferedImage target = new BufferedImage(width, height, imageType);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 2);
+        if ("jpg".equals(format)) {
+            writeJpeg(target, out);
+        } else {
+            ImageIO.write(target, "png", out);
+        }
+        return out.toByteArray();
+    }
+    
+    private void writeJpeg(BufferedImage image, ByteArrayOutputStream out) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG encoder available");
+        }
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
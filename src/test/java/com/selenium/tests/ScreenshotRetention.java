@@ -0,0 +1,167 @@
+package com.selenium.tests;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bounds the screenshot directory across runs. A run is either a manifest in
+ * {@code manifests/} (deduplicated storage) or a {@code run-*} directory (plain storage).
+ * Both forms of the same run id count as one run. The oldest runs are dropped until at most
+ * {@code screenshot.retainRuns} remain and the directory fits in {@code screenshot.maxMB};
+ * objects no manifest refers to are then deleted.
+ * The current run is never dropped, and loose files from older layouts are left alone.
+ */
+public final class ScreenshotRetention {
+    
+    private final Path rootDir;
+    private final int retainRuns;
+    private final long maxBytes;
+    
+    public ScreenshotRetention(Path rootDir, int retainRuns, long maxBytes) {
+        this.rootDir = rootDir;
+        this.retainRuns = retainRuns;
+        this.maxBytes = maxBytes;
+    }
+    
+    public static ScreenshotRetention fromSystemProperties(Path rootDir) {
+        return new ScreenshotRetention(rootDir,
+                TestConfig.intProperty("screenshot.retainRuns", 0),
+                TestConfig.intProperty("screenshot.maxMB", 0) * 1024L * 1024L);
+    }
+    
+    public boolean isEnabled() {
+        return retainRuns > 0 || maxBytes > 0;
+    }
+    
+    public void apply() throws IOException {
+        List<List<Path>> olderRuns = listOlderRuns();
+        int removedRuns = 0;
+        while (!olderRuns.isEmpty() && retainRuns > 0 && olderRuns.size() + 1 > retainRuns) {
+            delete(olderRuns.remove(0));
+            removedRuns++;
+        }
+        long removedBytes = collectGarbage();
+        while (!olderRuns.isEmpty() && maxBytes > 0 && managedSize() > maxBytes) {
+            delete(olderRuns.remove(0));
+            removedRuns++;
+            removedBytes += collectGarbage();
+        }
+        if (removedRuns > 0 || removedBytes > 0) {
+            System.out.println("Retention - removed " + removedRuns + " old run(s), freed " + removedBytes / 1024 + " KB");
+        }
+    }
+    
+    /**
+     * Runs other than the current one, oldest first, each with its manifest and plain directory.
+     */
+    private List<List<Path>> listOlderRuns() throws IOException {
+        List<Path> runs = new ArrayList<>();
+        Path manifests = rootDir.resolve(ScreenshotStore.MANIFESTS_DIR);
+        if (Files.isDirectory(manifests)) {
+            try (Stream<Path> files = Files.list(manifests)) {
+                runs.addAll(files.filter(f -> f.getFileName().toString().endsWith(".tsv")).collect(Collectors.toList()));
+            }
+        }
+        if (Files.isDirectory(rootDir)) {
+            try (Stream<Path> files = Files.list(rootDir)) {
+                runs.addAll(files.filter(Files::isDirectory)
+                                 .filter(f -> f.getFileName().toString().startsWith("run-"))
+                                 .collect(Collectors.toList()));
+            }
+        }
+        Map<String, List<Path>> byRunId = new TreeMap<>();
+        for (Path run : runs) {
+            byRunId.computeIfAbsent(runId(run), key -> new ArrayList<>()).add(run);
+        }
+        byRunId.remove(TestConfig.runId());
+        return new ArrayList<>(byRunId.values());
+    }
+    
+    private long collectGarbage() throws IOException {
+        Path objects = rootDir.resolve(ScreenshotStore.OBJECTS_DIR);
+        if (!Files.isDirectory(objects)) {
+            return 0;
+        }
+        Set<String> referenced = new HashSet<>();
+        Path manifests = rootDir.resolve(ScreenshotStore.MANIFESTS_DIR);
+        if (Files.isDirectory(manifests)) {
+            try (Stream<Path> files = Files.list(manifests)) {
+                for (Path manifest : files.collect(Collectors.toList())) {
+                    for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                        int tab = line.indexOf('\t');
+                        if (tab >= 0) {
+                            referenced.add(line.substring(line.lastIndexOf('/') + 1));
+                        }
+                    }
+                }
+            }
+        }
+        long freed = 0;
+        try (Stream<Path> files = Files.list(objects)) {
+            for (Path object : files.collect(Collectors.toList())) {
+                String name = object.getFileName().toString();
+                if (!name.endsWith(".tmp") && !referenced.contains(name)) {
+                    freed += Files.size(object);
+                    Files.delete(object);
+                }
+            }
+        }
+        return freed;
+    }
+    
+    private static String runId(Path run) {
+        String name = run.getFileName().toString();
+        return name.endsWith(".tsv") ? name.substring(0, name.length() - 4) : name;
+    }
+    
+    private long managedSize() throws IOException {
+        long size = sizeOf(rootDir.resolve(ScreenshotStore.OBJECTS_DIR)) + sizeOf(rootDir.resolve(ScreenshotStore.MANIFESTS_DIR));
+        try (Stream<Path> files = Files.list(rootDir)) {
+            for (Path dir : files.filter(Files::isDirectory).collect(Collectors.toList())) {
+                if (dir.getFileName().toString().startsWith("run-")) {
+                    size += sizeOf(dir);
+                }
+            }
+        }
+        return size;
+    }
+    
+    private static long sizeOf(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    return 0;
+                }
+            }).sum();
+        }
+    }
+    
+    private static void delete(List<Path> run) throws IOException {
+        for (Path path : run) {
+            if (!Files.exists(path)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(path)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
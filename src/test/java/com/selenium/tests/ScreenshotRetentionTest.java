@@ -0,0 +1,141 @@
+package com.selenium.tests;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ScreenshotRetentionTest {
+    
+    private static final String CURRENT = TestConfig.runId();
+    
+    @TempDir
+    Path root;
+    
+    @Test
+    @DisplayName("Only the newest screenshot.retainRuns runs are kept")
+    public void testKeepsNewestRuns() throws IOException {
+        for (int run = 1; run <= 4; run++) {
+            manifest(olderRun(run), object("a" + run));
+        }
+        manifest(CURRENT, object("current"));
+        
+        new ScreenshotRetention(root, 3, 0).apply();
+        
+        Assertions.assertFalse(Files.exists(manifestPath(olderRun(1))));
+        Assertions.assertFalse(Files.exists(manifestPath(olderRun(2))));
+        Assertions.assertTrue(Files.exists(manifestPath(olderRun(3))));
+        Assertions.assertTrue(Files.exists(manifestPath(olderRun(4))));
+        Assertions.assertTrue(Files.exists(manifestPath(CURRENT)));
+    }
+    
+    @Test
+    @DisplayName("A run with both a manifest and a plain directory counts once")
+    public void testRunIdCountsOnce() throws IOException {
+        manifest(olderRun(1), object("a1"));
+        plainRun(olderRun(1), 1024);
+        manifest(olderRun(2), object("a2"));
+        manifest(CURRENT, object("current"));
+        
+        new ScreenshotRetention(root, 3, 0).apply();
+        
+        Assertions.assertTrue(Files.exists(manifestPath(olderRun(1))));
+        Assertions.assertTrue(Files.isDirectory(root.resolve(olderRun(1))));
+        Assertions.assertTrue(Files.exists(manifestPath(olderRun(2))));
+        
+        new ScreenshotRetention(root, 2, 0).apply();
+        
+        Assertions.assertFalse(Files.exists(manifestPath(olderRun(1))));
+        Assertions.assertFalse(Files.exists(root.resolve(olderRun(1))));
+        Assertions.assertTrue(Files.exists(manifestPath(olderRun(2))));
+    }
+    
+    @Test
+    @DisplayName("The current run is never deleted")
+    public void testCurrentRunSurvives() throws IOException {
+        manifest(olderRun(1), object("a1"));
+        manifest(CURRENT, object("current"));
+        plainRun(CURRENT, 64 * 1024);
+        
+        new ScreenshotRetention(root, 1, 1).apply();
+        
+        Assertions.assertFalse(Files.exists(manifestPath(olderRun(1))));
+        Assertions.assertTrue(Files.exists(manifestPath(CURRENT)));
+        Assertions.assertTrue(Files.isDirectory(root.resolve(CURRENT)));
+        Assertions.assertTrue(Files.exists(objectPath("current")));
+    }
+    
+    @Test
+    @DisplayName("The oldest runs are dropped until the directory fits in screenshot.maxMB")
+    public void testSizeCap() throws IOException {
+        for (int run = 1; run <= 3; run++) {
+            plainRun(olderRun(run), 400 * 1024);
+        }
+        plainRun(CURRENT, 100 * 1024);
+        
+        new ScreenshotRetention(root, 0, 1024 * 1024).apply();
+        
+        Assertions.assertFalse(Files.exists(root.resolve(olderRun(1))));
+        Assertions.assertTrue(Files.isDirectory(root.resolve(olderRun(2))));
+        Assertions.assertTrue(Files.isDirectory(root.resolve(olderRun(3))));
+        Assertions.assertTrue(Files.isDirectory(root.resolve(CURRENT)));
+    }
+    
+    @Test
+    @DisplayName("Objects still referenced by a kept manifest survive garbage collection")
+    public void testReferencedObjectsSurvive() throws IOException {
+        String shared = object("shared");
+        String dropped = object("dropped");
+        String orphan = object("orphan");
+        manifest(olderRun(1), shared, dropped);
+        manifest(CURRENT, shared);
+        
+        new ScreenshotRetention(root, 1, 0).apply();
+        
+        Assertions.assertTrue(Files.exists(objectPath(shared)));
+        Assertions.assertFalse(Files.exists(objectPath(dropped)));
+        Assertions.assertFalse(Files.exists(objectPath(orphan)));
+    }
+    
+    private static String olderRun(int index) {
+        return "run-20000101-000000-00" + index;
+    }
+    
+    private Path manifestPath(String runId) {
+        return root.resolve(ScreenshotStore.MANIFESTS_DIR).resolve(runId + ".tsv");
+    }
+    
+    private Path objectPath(String objectName) {
+        String name = objectName.endsWith(".png") ? objectName : objectName + ".png";
+        return root.resolve(ScreenshotStore.OBJECTS_DIR).resolve(name);
+    }
+    
+    private String object(String name) throws IOException {
+        Path object = objectPath(name);
+        Files.createDirectories(object.getParent());
+        Files.write(object, new byte[1024]);
+        return object.getFileName().toString();
+    }
+    
+    private void manifest(String runId, String... objects) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < objects.length; i++) {
+            lines.add("Step" + i + ".png\t" + ScreenshotStore.OBJECTS_DIR + "/" + objects[i]);
+        }
+        Path manifest = manifestPath(runId);
+        Files.createDirectories(manifest.getParent());
+        Files.write(manifest, lines, StandardCharsets.UTF_8);
+    }
+    
+    private void plainRun(String runId, int bytes) throws IOException {
+        Path dir = Files.createDirectories(root.resolve(runId));
+        Files.write(dir.resolve("Step1.png"), new byte[bytes]);
+    }
+}
@@ -0,0 +1,367 @@
+package com.selenium.tests;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Shared screenshot capture for all test classes. The test thread only grabs the frame bytes
+ * from the browser, either the whole viewport or just an element or clip rectangle through
+ * {@link ScreenshotClip}; post-processing and writing them to disk happen on a small bounded
+ * writer pool. When the queue is full the capturing thread waits for a free slot, so memory
+ * stays bounded. Retention runs on the same pool once the suite has finished.
+ */
+public final class ScreenshotService {
+    
+    public static final String SCREENSHOT_DIR = TestConfig.stringProperty("screenshot.dir", "screenshots");
+    
+    private static final int QUEUE_CAPACITY = Math.max(1, TestConfig.intProperty("screenshot.queueCapacity", 32));
+    private static final int WRITER_THREADS = Math.max(1, TestConfig.intProperty("screenshot.writerThreads", 2));
+    
+    private static final boolean DEDUPLICATE = TestConfig.booleanProperty("screenshot.dedup", true);
+    private static final boolean CLIP = TestConfig.booleanProperty("screenshot.clip", true);
+    private static final CapturePolicy POLICY = CapturePolicy.active();
+    
+    private static final ScreenshotService INSTANCE = new ScreenshotService();
+    
+    private final ThreadPoolExecutor writers;
+    private final ScreenshotStore store = new ScreenshotStore(Paths.get(SCREENSHOT_DIR));
+    private final ScreenshotProcessor processor = ScreenshotProcessor.fromSystemProperties();
+    private final ScreenshotRetention retention = ScreenshotRetention.fromSystemProperties(Paths.get(SCREENSHOT_DIR));
+    private final Object pendingLock = new Object();
+    private int pending;
+    private final Map<String, Deque<Frame>> rings = new HashMap<>();
+    
+    private final AtomicLong captured = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong totalWriteNanos = new AtomicLong();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong buffered = new AtomicLong();
+    private final AtomicLong kept = new AtomicLong();
+    
+    private ScreenshotService() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "screenshot-writer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        writers = new ThreadPoolExecutor(WRITER_THREADS, WRITER_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), threadFactory, (task, executor) -> {
+                    stalls.incrementAndGet();
+                    try {
+                        executor.getQueue().put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for screenshot queue", e);
+                    }
+                });
+    }
+    
+    public static void capture(WebDriver driver, String stepName) {
+        if (INSTANCE.skip(driver)) {
+            return;
+        }
+        StepTimer.time(driver, "screenshot", () -> {
+            INSTANCE.submit(stepName, "viewport", () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES),
+                            INSTANCE.processor, POLICY.buffersFrames());
+        });
+    }
+    
+    public static void captureElement(WebDriver driver, WebElement element, String stepName) {
+        if (!CLIP) {
+            capture(driver, stepName);
+            return;
+        }
+        if (INSTANCE.skip(driver)) {
+            return;
+        }
+        StepTimer.time(driver, "screenshot: element", () -> {
+            INSTANCE.submit(stepName, "element", () -> ScreenshotClip.element(driver, element, INSTANCE.processor),
+                            INSTANCE.clipProcessor(driver), POLICY.buffersFrames());
+        });
+    }
+    
+    public static void captureRegion(WebDriver driver, Rectangle clip, String stepName) {
+        if (!CLIP) {
+            capture(driver, stepName);
+            return;
+        }
+        if (INSTANCE.skip(driver)) {
+            return;
+        }
+        StepTimer.time(driver, "screenshot: clip", () -> {
+            INSTANCE.submit(stepName, "clip", () -> ScreenshotClip.region(driver, clip, INSTANCE.processor),
+                            INSTANCE.clipProcessor(driver), POLICY.buffersFrames());
+        });
+    }
+    
+    /**
+     * Captures the viewport regardless of the capture policy and writes the frames buffered for
+     * the current test, for steps that report an error.
+     */
+    public static void captureFailure(WebDriver driver, String stepName) {
+        INSTANCE.keepRing(RunReport.currentTest());
+        StepTimer.time(driver, "screenshot", () -> {
+            INSTANCE.submit(stepName, "failure", () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES),
+                            INSTANCE.processor, false);
+        });
+    }
+    
+    public static void testFinished(Throwable error) {
+        String test = RunReport.currentTest();
+        if (error != null) {
+            INSTANCE.keepRing(test);
+        } else {
+            synchronized (INSTANCE.rings) {
+                INSTANCE.rings.remove(test);
+            }
+        }
+    }
+    
+    public static void flush() {
+        INSTANCE.awaitPending();
+        INSTANCE.store.flush();
+        INSTANCE.printSummary();
+        if (INSTANCE.retention.isEnabled()) {
+            INSTANCE.enqueue(INSTANCE::applyRetention);
+            INSTANCE.awaitPending();
+        }
+    }
+    
+    public static int queueDepth() {
+        return INSTANCE.writers.getQueue().size();
+    }
+    
+    public static int maxQueueDepth() {
+        return INSTANCE.maxQueueDepth.get();
+    }
+    
+    public static long stalls() {
+        return INSTANCE.stalls.get();
+    }
+    
+    public static double averageWriteMillis() {
+        long count = INSTANCE.written.get();
+        return count == 0 ? 0 : INSTANCE.totalWriteNanos.get() / (count * 1_000_000.0);
+    }
+    
+    public static double maxWriteMillis() {
+        return INSTANCE.maxWriteNanos.get() / 1_000_000.0;
+    }
+    
+    private ScreenshotProcessor clipProcessor(WebDriver driver) {
+        return ScreenshotClip.encodesInBrowser(driver) ? processor.alreadyEncoded() : processor;
+    }
+    
+    private boolean skip(WebDriver driver) {
+        if (POLICY.shouldCapture(driver)) {
+            return false;
+        }
+        skipped.incrementAndGet();
+        return true;
+    }
+    
+    private void submit(String stepName, String kind, FrameSource source, ScreenshotProcessor frameProcessor,
+                        boolean buffer) {
+        byte[] bytes;
+        try {
+            bytes = source.grab();
+        } catch (WebDriverException | IOException e) {
+            System.out.println("  ⚠ Failed to take screenshot: " + e.getMessage());
+            return;
+        }
+        Frame frame = new Frame(bytes, ScreenshotNames.uniqueName(stepName), kind, RunReport.currentTest(), frameProcessor);
+        captured.incrementAndGet();
+        if (buffer) {
+            buffer(frame);
+            System.out.println("  📸 Screenshot buffered: " + frame.name);
+        } else if (queueWrite(frame)) {
+            System.out.println("  📸 Screenshot captured: " + frame.name);
+        }
+    }
+    
+    private boolean queueWrite(Frame frame) {
+        if (!enqueue(() -> write(frame.bytes, frame.name, frame.kind, frame.test, frame.processor))) {
+            return false;
+        }
+        maxQueueDepth.accumulateAndGet(writers.getQueue().size(), Math::max);
+        return true;
+    }
+    
+    private void buffer(Frame frame) {
+        synchronized (rings) {
+            Deque<Frame> ring = rings.computeIfAbsent(frame.test, key -> new ArrayDeque<>());
+            if (ring.size() >= CapturePolicy.RING_SIZE) {
+                ring.pollFirst();
+            }
+            ring.addLast(frame);
+        }
+        buffered.incrementAndGet();
+    }
+    
+    private void keepRing(String test) {
+        Deque<Frame> ring;
+        synchronized (rings) {
+            ring = rings.remove(test);
+        }
+        if (ring == null || ring.isEmpty()) {
+            return;
+        }
+        for (Frame frame : ring) {
+            if (queueWrite(frame)) {
+                kept.incrementAndGet();
+            }
+        }
+        System.out.println("  📸 Kept " + ring.size() + " buffered screenshot(s) leading up to the failure");
+    }
+    
+    private boolean enqueue(Runnable task) {
+        synchronized (pendingLock) {
+            pending++;
+        }
+        try {
+            writers.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    taskDone();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            taskDone();
+            System.out.println("  ⚠ Failed to queue screenshot work: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    private void write(byte[] frame, String screenshotName, String kind, String test, ScreenshotProcessor frameProcessor) {
+        long start = System.nanoTime();
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", screenshotName);
+        fields.put("kind", kind);
+        try {
+            Path target;
+            int bytes;
+            if (DEDUPLICATE) {
+                ScreenshotStore.Stored stored = store.store(screenshotName, frame, frameProcessor);
+                target = stored.object();
+                bytes = stored.bytesWritten();
+                fields.put("deduplicated", stored.deduplicated());
+            } else {
+                target = Paths.get(SCREENSHOT_DIR, TestConfig.runId(), screenshotName + "." + frameProcessor.extension());
+                Files.createDirectories(target.getParent());
+                byte[] image = frameProcessor.process(frame);
+                Files.write(target, image);
+                bytes = image.length;
+            }
+            long elapsed = System.nanoTime() - start;
+            written.incrementAndGet();
+            totalWriteNanos.addAndGet(elapsed);
+            maxWriteNanos.accumulateAndGet(elapsed, Math::max);
+            fields.put("path", target.toString());
+            fields.put("bytes", bytes);
+            fields.put("writeMs", LatencyHistogram.millis(elapsed));
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            String error = e.getMessage() != null ? e.getMessage() : e.toString();
+            fields.put("error", error);
+            System.out.println("  ⚠ Failed to write screenshot " + screenshotName + ": " + error);
+        }
+        RunReport.eventFor(test, "screenshot", fields);
+    }
+    
+    private void applyRetention() {
+        try {
+            retention.apply();
+        } catch (IOException e) {
+            System.out.println("  ⚠ Failed to apply screenshot retention: " + e.getMessage());
+        }
+    }
+    
+    private void taskDone() {
+        synchronized (pendingLock) {
+            pending--;
+            if (pending == 0) {
+                pendingLock.notifyAll();
+            }
+        }
+    }
+    
+    private void awaitPending() {
+        synchronized (pendingLock) {
+            while (pending > 0) {
+                try {
+                    pendingLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+    
+    private void printSummary() {
+        if (captured.get() == 0 && skipped.get() == 0) {
+            return;
+        }
+        System.out.println("\n=== Screenshot Summary ===");
+        System.out.println("Screenshots captured: " + captured.get() + ", written: " + written.get() +
+                           ", failed: " + failed.get());
+        System.out.println("Max queue depth: " + maxQueueDepth() + " of " + QUEUE_CAPACITY +
+                           ", capture stalls (queue full): " + stalls());
+        System.out.printf("Write latency - avg: %.1f ms, max: %.1f ms%n", averageWriteMillis(), maxWriteMillis());
+        if (POLICY != CapturePolicy.ALWAYS) {
+            System.out.println("Capture policy " + POLICY.key() + " - skipped: " + skipped.get() +
+                               ", buffered: " + buffered.get() + ", kept after failures: " + kept.get());
+        }
+        store.printSummary();
+    }
+    
+    private interface FrameSource {
+        
+        byte[] grab() throws IOException;
+    }
+    
+    private static final class Frame {
+        
+        final byte[] bytes;
+        final String name;
+        final String kind;
+        final String test;
+        final ScreenshotProcessor processor;
+        
+        Frame(byte[] bytes, String name, String kind, String test, ScreenshotProcessor processor) {
+            this.bytes = bytes;
+            this.name = name;
+            this.kind = kind;
+            this.test = test;
+            this.processor = processor;
+        }
+    }
+}
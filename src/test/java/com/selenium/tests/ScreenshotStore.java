@@ -0,0 +1,167 @@
+package com.selenium.tests;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed screenshot storage. Each distinct frame is written once to
+ * {@code objects/<sha256>.<ext>}; every capture adds a line {@code <screenshot name> TAB <object>}
+ * to the manifest of the current run under {@code manifests/}. Identical frames, such as
+ * consecutive steps that do not change the page, therefore cost one manifest line instead of a file.
+ * The hash is taken over the captured PNG plus the processing settings, so duplicates are
+ * recognised before any decoding or re-encoding work is spent on them. A duplicate that arrives
+ * while its object is still being written waits for that write, and fails with it.
+ */
+public final class ScreenshotStore {
+    
+    public static final String OBJECTS_DIR = "objects";
+    public static final String MANIFESTS_DIR = "manifests";
+    
+    private final Path objectsDir;
+    private final Path manifestFile;
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> objects = new ConcurrentHashMap<>();
+    private BufferedWriter manifest;
+    
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong uniqueFrames = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    
+    public ScreenshotStore(Path rootDir) {
+        this.objectsDir = rootDir.resolve(OBJECTS_DIR);
+        this.manifestFile = rootDir.resolve(MANIFESTS_DIR).resolve(TestConfig.runId() + ".tsv");
+        if (Files.isDirectory(objectsDir)) {
+            try (DirectoryStream<Path> existing = Files.newDirectoryStream(objectsDir)) {
+                for (Path object : existing) {
+                    objects.put(object.getFileName().toString(), CompletableFuture.completedFuture(object));
+                }
+            } catch (IOException e) {
+                System.out.println("  ⚠ Failed to index screenshot store: " + e.getMessage());
+            }
+        }
+    }
+    
+    public Stored store(String screenshotName, byte[] frame, ScreenshotProcessor processor) throws IOException {
+        String objectName = sha256(frame, processor.variant()) + "." + processor.extension();
+        Path object = objectsDir.resolve(objectName);
+        frames.incrementAndGet();
+        CompletableFuture<Path> written = new CompletableFuture<>();
+        CompletableFuture<Path> first = objects.putIfAbsent(objectName, written);
+        int stored = 0;
+        if (first == null) {
+            try {
+                byte[] image = processor.process(frame);
+                Files.createDirectories(objectsDir);
+                Path temp = Files.createTempFile(objectsDir, objectName, ".tmp");
+                Files.write(temp, image);
+                Files.move(temp, object, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                uniqueFrames.incrementAndGet();
+                bytesWritten.addAndGet(image.length);
+                stored = image.length;
+                written.complete(object);
+            } catch (IOException | RuntimeException e) {
+                objects.remove(objectName, written);
+                written.completeExceptionally(e);
+                throw e;
+            }
+        } else {
+            awaitWrite(first, objectName);
+            bytesSaved.addAndGet(frame.length);
+        }
+        appendManifest(screenshotName + "." + processor.extension() + "\t" + OBJECTS_DIR + "/" + objectName);
+        return new Stored(object, stored);
+    }
+    
+    public synchronized void flush() {
+        if (manifest == null) {
+            return;
+        }
+        try {
+            manifest.close();
+        } catch (IOException e) {
+            System.out.println("  ⚠ Failed to close screenshot manifest: " + e.getMessage());
+        }
+        manifest = null;
+    }
+    
+    public void printSummary() {
+        if (frames.get() == 0) {
+            return;
+        }
+        System.out.println("Deduplicated store - frames: " + frames.get() + ", unique: " + uniqueFrames.get() +
+                           ", written: " + bytesWritten.get() / 1024 + " KB, saved: " + bytesSaved.get() / 1024 + " KB");
+        System.out.println("Manifest: " + manifestFile);
+    }
+    
+    private synchronized void appendManifest(String line) throws IOException {
+        if (manifest == null) {
+            Files.createDirectories(manifestFile.getParent());
+            manifest = Files.newBufferedWriter(manifestFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        manifest.write(line);
+        manifest.newLine();
+    }
+    
+    private static void awaitWrite(CompletableFuture<Path> first, String objectName) throws IOException {
+        try {
+            first.join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to store " + objectName + ": " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+    
+    /**
+     * Where a capture was stored and how many bytes it added; a duplicate adds none.
+     */
+    public static final class Stored {
+        
+        private final Path object;
+        private final int bytesWritten;
+        
+        private Stored(Path object, int bytesWritten) {
+            this.object = object;
+            this.bytesWritten = bytesWritten;
+        }
+        
+        public Path object() {
+            return object;
+        }
+        
+        public int bytesWritten() {
+            return bytesWritten;
+        }
+        
+        public boolean deduplicated() {
+            return bytesWritten == 0;
+        }
+    }
+    
+    private static String sha256(byte[] data, String variant) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            sha.update(data);
+            sha.update(variant.getBytes(StandardCharsets.UTF_8));
+            byte[] digest = sha.digest();
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.selenium.tests;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ScreenshotStoreTest {
+    
+    private static final int WRITERS = 2;
+    private static final int ROUNDS = 100;
+    
+    @TempDir
+    Path root;
+    
+    @Test
+    @DisplayName("Identical frames are stored once and listed for every capture")
+    public void testDuplicateFramesShareOneObject() throws IOException {
+        ScreenshotStore store = new ScreenshotStore(root);
+        ScreenshotProcessor processor = new ScreenshotProcessor(1.0, "png", 0.8f);
+        byte[] frame = png(1);
+        
+        ScreenshotStore.Stored stored = store.store("Step1", frame, processor);
+        ScreenshotStore.Stored duplicate = store.store("Step2", frame, processor);
+        store.flush();
+        
+        Path first = stored.object();
+        Assertions.assertEquals(first, duplicate.object());
+        Assertions.assertEquals(Files.size(first), stored.bytesWritten());
+        Assertions.assertFalse(stored.deduplicated());
+        Assertions.assertTrue(duplicate.deduplicated());
+        Assertions.assertTrue(Files.isRegularFile(first));
+        Assertions.assertEquals(1, objectCount());
+        List<String> manifest = manifestLines();
+        Assertions.assertEquals(2, manifest.size());
+        Assertions.assertEquals("Step1.png\t" + ScreenshotStore.OBJECTS_DIR + "/" + first.getFileName(), manifest.get(0));
+    }
+    
+    @Test
+    @DisplayName("A concurrent duplicate returns only once its object has been written")
+    public void testConcurrentDuplicatesWaitForFirstWrite() throws Exception {
+        ScreenshotStore store = new ScreenshotStore(root);
+        ScreenshotProcessor processor = new ScreenshotProcessor(0.5, "jpg", 0.8f);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                byte[] frame = png(round);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int writer = 0; writer < WRITERS; writer++) {
+                    String name = "Round" + round + "_Writer" + writer;
+                    Callable<Boolean> task = () -> {
+                        start.await();
+                        return Files.isRegularFile(store.store(name, frame, processor).object());
+                    };
+                    results.add(executor.submit(task));
+                }
+                start.countDown();
+                for (Future<Boolean> result : results) {
+                    Assertions.assertTrue(result.get(), "store returned before the object existed in round " + round);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        store.flush();
+        Assertions.assertEquals(ROUNDS, objectCount());
+        Assertions.assertEquals(ROUNDS * WRITERS, manifestLines().size());
+    }
+    
+    @Test
+    @DisplayName("A failed write fails its concurrent duplicates without manifest lines")
+    public void testFailedWriteFailsDuplicates() throws Exception {
+        Files.write(root.resolve(ScreenshotStore.OBJECTS_DIR), new byte[0]);
+        ScreenshotStore store = new ScreenshotStore(root);
+        ScreenshotProcessor processor = new ScreenshotProcessor(0.5, "png", 0.8f);
+        byte[] frame = png(7);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ScreenshotStore.Stored>> results = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                String name = "Writer" + writer;
+                Callable<ScreenshotStore.Stored> task = () -> {
+                    start.await();
+                    return store.store(name, frame, processor);
+                };
+                results.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<ScreenshotStore.Stored> result : results) {
+                ExecutionException failure = Assertions.assertThrows(ExecutionException.class, result::get);
+                Assertions.assertTrue(failure.getCause() instanceof IOException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        store.flush();
+        Assertions.assertTrue(manifestLines().isEmpty());
+    }
+    
+    private long objectCount() throws IOException {
+        try (Stream<Path> objects = Files.list(root.resolve(ScreenshotStore.OBJECTS_DIR))) {
+            return objects.filter(path -> !path.getFileName().toString().endsWith(".tmp")).count();
+        }
+    }
+    
+    private List<String> manifestLines() throws IOException {
+        Path manifest = root.resolve(ScreenshotStore.MANIFESTS_DIR).resolve(TestConfig.runId() + ".tsv");
+        return Files.exists(manifest) ? Files.readAllLines(manifest, StandardCharsets.UTF_8) : new ArrayList<>();
+    }
+    
+    private static byte[] png(int seed) throws IOException {
+        BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, (x * 31 + y * 17 + seed * 7919) & 0xFFFFFF);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,115 @@
+package com.selenium.tests;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Times one logical test step (driver setup, navigate, locate, an interaction or a screenshot)
+ * run through {@link #time} and records the duration into a histogram per browser and step.
+ * Steps may nest; an interaction that takes a screenshot also counts towards {@code screenshot}.
+ * The summary printed at suite end lists the steps of each browser by total time.
+ */
+public final class StepTimer {
+    
+    private static final Map<String, Map<String, LatencyHistogram>> STEPS = new ConcurrentHashMap<>();
+    
+    private final String browser;
+    private final String step;
+    private final long startNanos;
+    
+    private StepTimer(String browser, String step) {
+        this.browser = browser;
+        this.step = step;
+        this.startNanos = System.nanoTime();
+        RunReport.event("stepStart", fields());
+    }
+    
+    public static void time(WebDriver driver, String step, Runnable action) {
+        time(driver, step, () -> {
+            action.run();
+            return null;
+        });
+    }
+    
+    public static <T> T time(WebDriver driver, String step, Supplier<T> action) {
+        return new StepTimer(browserName(driver), step).run(action);
+    }
+    
+    public static <T> T time(BrowserType browser, String step, Supplier<T> action) {
+        return new StepTimer(browser.name().toLowerCase(Locale.ROOT), step).run(action);
+    }
+    
+    private <T> T run(Supplier<T> action) {
+        try {
+            return action.get();
+        } finally {
+            stop();
+        }
+    }
+    
+    private void stop() {
+        long elapsed = System.nanoTime() - startNanos;
+        STEPS.computeIfAbsent(browser, key -> new ConcurrentHashMap<>())
+             .computeIfAbsent(step, key -> new LatencyHistogram())
+             .record(elapsed);
+        Map<String, Object> fields = fields();
+        fields.put("durationMs", LatencyHistogram.millis(elapsed));
+        RunReport.event("stepEnd", fields);
+    }
+    
+    private Map<String, Object> fields() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("browser", browser);
+        fields.put("step", step);
+        return fields;
+    }
+    
+    public static void printSummary() {
+        if (STEPS.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== Step Time Summary (slowest first) ===");
+        for (Map.Entry<String, Map<String, LatencyHistogram>> browser : new TreeMap<>(STEPS).entrySet()) {
+            System.out.println(browser.getKey() + ":");
+            List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(browser.getValue().entrySet());
+            entries.sort(Comparator.comparingLong(
+                    (Map.Entry<String, LatencyHistogram> e) -> e.getValue().totalNanos()).reversed());
+            for (Map.Entry<String, LatencyHistogram> entry : entries) {
+                System.out.println("  " + entry.getKey() + ": " + entry.getValue().summary());
+            }
+        }
+    }
+    
+    /**
+     * The histograms recorded so far, keyed {@code browser/step}.
+     */
+    static Map<String, LatencyHistogram> histograms() {
+        Map<String, LatencyHistogram> histograms = new TreeMap<>();
+        for (Map.Entry<String, Map<String, LatencyHistogram>> browser : STEPS.entrySet()) {
+            for (Map.Entry<String, LatencyHistogram> step : browser.getValue().entrySet()) {
+                histograms.put(browser.getKey() + "/" + step.getKey(), step.getValue());
+            }
+        }
+        return histograms;
+    }
+    
+    private static String browserName(WebDriver driver) {
+        if (driver instanceof HasCapabilities) {
+            String name = ((HasCapabilities) driver).getCapabilities().getBrowserName();
+            if (name != null && !name.isEmpty()) {
+                return name.toLowerCase(Locale.ROOT);
+            }
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,80 @@
+package com.selenium.tests;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Registers suite-wide resources in the root extension store so they are released
+ * exactly once, after the last test class of the run has finished, and tells the
+ * {@link CommandTracer} and {@link RunReport} which test the current thread is running.
+ */
+public class SuiteLifecycleExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+    
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot()
+               .getStore(ExtensionContext.Namespace.GLOBAL)
+               .getOrComputeIfAbsent(SuiteResources.class, key -> new SuiteResources());
+        LookaheadLauncher.classStarting(context.getRequiredTestClass());
+    }
+    
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        String testName = context.getRequiredTestClass().getSimpleName() + "." + context.getDisplayName();
+        CommandTracer.testStarted(testName);
+        RunReport.testStarted(testName);
+    }
+    
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Throwable error = context.getExecutionException().orElse(null);
+        ScreenshotService.testFinished(error instanceof TestAbortedException ? null : error);
+        RunReport.testFinished(error);
+        CommandTracer.testFinished();
+    }
+    
+    private static final class SuiteResources implements ExtensionContext.Store.CloseableResource {
+        
+        private Throwable failure;
+        
+        @Override
+        public void close() throws Throwable {
+            release("screenshot writes", ScreenshotService::flush);
+            release("driver binary summary", DriverBinaries::printSummary);
+            release("page readiness summary", PageReadiness::printSummary);
+            release("page reset summary", PageReset::printSummary);
+            release("adaptive wait summary", AdaptiveWait::printSummary);
+            release("step timing summary", StepTimer::printSummary);
+            release("scenario summary", ScenarioEngine::printSummary);
+            release("DOM snapshot summary", DomSnapshot::printSummary);
+            release("profile baseline", ProfileBaseline::printSummary);
+            release("driver pool", DriverPool::shutdown);
+            release("Selenium Grid", LocalGrid::shutdown);
+            release("command trace summary", CommandTracer::printSummary);
+            release("fixture server", FixtureServer::stopShared);
+            release("run report", RunReport::close);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        
+        /**
+         * Runs one shutdown step, keeping its failure so the remaining resources are still released.
+         */
+        private void release(String name, Runnable step) {
+            try {
+                step.run();
+            } catch (Throwable e) {
+                System.out.println("⚠ Failed to release " + name + ": " + e);
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+    }
+}
@@ -1,58 +1,29 @@
 package com.selenium.tests;
 
-import java.io.File;
-import java.io.IOException;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.io.FileHandler;
-
-import io.github.bonigarcia.wdm.WebDriverManager;
 
+@ExtendWith(SuiteLifecycleExtension.class)
 public class TestCase2_FirefoxDriverSetup {
     
     private WebDriver firefoxDriver;
     
-    private static final String TEST_URL = "https://www.codenboxautomationlab.com/practice/";
-    
-    private static final String SCREENSHOT_DIR = "screenshots";
+    private static final String TEST_URL = TestConfig.testUrl();
     
     @BeforeEach
     public void setUp() {
         System.out.println("Setting up drivers...");
-        File screenshotDir = new File(SCREENSHOT_DIR);
-        if (!screenshotDir.exists()) {
-            screenshotDir.mkdirs();
-            System.out.println("Created screenshots directory: " + SCREENSHOT_DIR);
-        }
-    }
-    
-    private void takeScreenshot(WebDriver driver, String stepName) {
-        try {
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
-            String fileName = SCREENSHOT_DIR + File.separator + stepName + "_" + 
-                             System.currentTimeMillis() + ".png";
-            File destinationFile = new File(fileName);
-            FileHandler.copy(sourceFile, destinationFile);
-            System.out.println("  📸 Screenshot saved: " + fileName);
-        } catch (IOException e) {
-            System.out.println("  ⚠ Failed to take screenshot: " + e.getMessage());
-        }
     }
     
     @AfterEach
     public void tearDown() {
         if (firefoxDriver != null) {
-            firefoxDriver.quit();
+            DriverPool.release(firefoxDriver);
         }
     }
     
@@ -62,23 +33,21 @@ public class TestCase2_FirefoxDriverSetup {
         System.out.println("\n=== Test Case 2: Firefox Driver Setup ===");
         
         try {
-            WebDriverManager.firefoxdriver().setup();
+            DriverBinaries.ensure(BrowserType.FIREFOX);
             System.out.println("Step 1: ✓ Firefox driver downloaded and configured");
             
-            FirefoxOptions options = new FirefoxOptions();
-            
             try {
-                firefoxDriver = new FirefoxDriver(options);
+                firefoxDriver = DriverPool.acquire(BrowserType.FIREFOX);
                 System.out.println("Step 2: ✓ Firefox driver instance created");
-                takeScreenshot(firefoxDriver, "Step2_FirefoxDriverCreated");
+                ScreenshotService.capture(firefoxDriver, "Step2_FirefoxDriverCreated");
                 
-                firefoxDriver.get(TEST_URL);
+                PageReset.open(firefoxDriver, TEST_URL);
                 System.out.println("Step 3: ✓ Navigated to: " + TEST_URL);
-                takeScreenshot(firefoxDriver, "Step3_NavigatedToWebsite");
+                ScreenshotService.capture(firefoxDriver, "Step3_NavigatedToWebsite");
                 
                 String pageTitle = firefoxDriver.getTitle();
                 System.out.println("Step 4: ✓ Page Title: " + pageTitle);
-                takeScreenshot(firefoxDriver, "Step4_PageLoaded");
+                ScreenshotService.capture(firefoxDriver, "Step4_PageLoaded");
                 
                 Assertions.assertNotNull(pageTitle);
                 Assertions.assertFalse(pageTitle.isEmpty());
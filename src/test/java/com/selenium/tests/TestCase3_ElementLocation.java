@@ -1,87 +1,45 @@
 package com.selenium.tests;
 
-import java.io.File;
-import java.io.IOException;
 import java.time.Duration;
-import java.util.List;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.By;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.io.FileHandler;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import io.github.bonigarcia.wdm.WebDriverManager;
 
+@ExtendWith(SuiteLifecycleExtension.class)
 public class TestCase3_ElementLocation {
     
-    private WebDriver chromeDriver;
-    private WebDriverWait wait;
-    
-    private static final String TEST_URL = "https://www.codenboxautomationlab.com/practice/";
-    
-    private static final String SCREENSHOT_DIR = "screenshots";
+    private static final String TEST_URL = TestConfig.testUrl();
     
     @BeforeEach
     public void setUp() {
         System.out.println("Setting up drivers...");
-        File screenshotDir = new File(SCREENSHOT_DIR);
-        if (!screenshotDir.exists()) {
-            screenshotDir.mkdirs();
-            System.out.println("Created screenshots directory: " + SCREENSHOT_DIR);
-        }
-    }
-    
-    private void takeScreenshot(WebDriver driver, String stepName) {
-        try {
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
-            String fileName = SCREENSHOT_DIR + File.separator + stepName + "_" + 
-                             System.currentTimeMillis() + ".png";
-            File destinationFile = new File(fileName);
-            FileHandler.copy(sourceFile, destinationFile);
-            System.out.println("  📸 Screenshot saved: " + fileName);
-        } catch (IOException e) {
-            System.out.println("  ⚠ Failed to take screenshot: " + e.getMessage());
-        }
     }
     
-    @AfterEach
-    public void tearDown() {
-        if (chromeDriver != null) {
-            chromeDriver.quit();
-        }
-    }
-    
-    private WebElement locateAndReport(By locator, String locatorType, String screenshotName) {
+    private WebElement locateAndReport(ScenarioSession session, By locator, String locatorType, String screenshotName) {
         try {
-            WebElement element = chromeDriver.findElement(locator);
-            System.out.println("✓ Located element by " + locatorType);
-            takeScreenshot(chromeDriver, screenshotName);
+            WebElement element = session.locate(locator);
+            session.log("✓ Located element by " + locatorType);
+            session.screenshot(screenshotName, element);
             return element;
         } catch (Exception e) {
-            System.out.println("⚠ Element with " + locatorType + " not found");
+            session.log("⚠ Element with " + locatorType + " not found");
             return null;
         }
     }
     
-    private WebElement locateAndReportWithWait(By locator, String locatorType, String screenshotName) {
+    private WebElement locateAndReportWithWait(ScenarioSession session, By locator, String locatorType, String screenshotName) {
         try {
-            WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            System.out.println("✓ Located element by " + locatorType);
-            takeScreenshot(chromeDriver, screenshotName);
+            WebElement element = session.locateWithWait(locator);
+            session.log("✓ Located element by " + locatorType);
+            session.screenshot(screenshotName, element);
             return element;
         } catch (Exception e) {
-            System.out.println("⚠ Element with " + locatorType + " not found");
+            session.log("⚠ Element with " + locatorType + " not found");
             return null;
         }
     }
@@ -90,66 +48,60 @@ public class TestCase3_ElementLocation {
     @DisplayName("Element Location Using By Class")
     public void testElementLocation() {
         System.out.println("\n=== Test Case 3: Element Location Using By Class ===");
+        ScenarioEngine.run("Test Case 3", Duration.ofSeconds(10), this::locateElements);
+    }
+    
+    private void locateElements(ScenarioSession session) {
+        session.log("Step 1: ✓ " + session.browser().displayName() + " driver downloaded and instance created");
+        session.screenshot("Step1_DriverSetup");
         
-        WebDriverManager.chromedriver().setup();
-        chromeDriver = new ChromeDriver();
-        chromeDriver.manage().window().maximize();
-        wait = new WebDriverWait(chromeDriver, Duration.ofSeconds(10));
-        System.out.println("Step 1: ✓ Chrome driver downloaded and instance created");
-        takeScreenshot(chromeDriver, "Step1_DriverSetup");
-        
-        chromeDriver.get(TEST_URL);
-        System.out.println("Step 2: ✓ Navigated to: " + TEST_URL);
-        takeScreenshot(chromeDriver, "Step2_NavigatedToWebsite");
+        PageReset.open(session.driver(), TEST_URL);
+        session.log("Step 2: ✓ Navigated to: " + TEST_URL);
+        session.screenshot("Step2_NavigatedToWebsite");
         
         try {
-            Thread.sleep(2000);
-            System.out.println("\n--- Locating Elements Using By Class ---");
+            session.log("\n--- Locating Elements Using By Class ---");
             
-            WebElement elementById = locateAndReportWithWait(By.id("checkBoxOption1"), "ID: checkBoxOption1", "Step3_LocatedByID");
+            WebElement elementById = locateAndReportWithWait(session, By.id("checkBoxOption1"), "ID: checkBoxOption1", "Step3_LocatedByID");
             if (elementById != null) {
-                System.out.println("  Element tag: " + elementById.getTagName());
-                System.out.println("  Element type: " + elementById.getAttribute("type"));
+                session.log("  Element tag: " + elementById.getTagName());
+                session.log("  Element type: " + elementById.getAttribute("type"));
             }
             
-            WebElement elementByName = locateAndReport(By.name("radioButton"), "Name: radioButton", "Step3_LocatedByName");
+            WebElement elementByName = locateAndReport(session, By.name("radioButton"), "Name: radioButton", "Step3_LocatedByName");
             if (elementByName != null) {
-                System.out.println("  Element type: " + elementByName.getAttribute("type"));
-                System.out.println("  Element value: " + elementByName.getAttribute("value"));
+                session.log("  Element type: " + elementByName.getAttribute("type"));
+                session.log("  Element value: " + elementByName.getAttribute("value"));
             }
             
-            List<WebElement> elementsByClass = chromeDriver.findElements(By.className("radio1"));
-            if (elementsByClass.isEmpty()) {
-                elementsByClass = chromeDriver.findElements(By.className("wp-block-group"));
-            }
-            System.out.println("✓ Located " + elementsByClass.size() + " element(s) by Class Name");
-            takeScreenshot(chromeDriver, "Step3_LocatedByClassName");
+            int[] counts = ElementQuery.counts(session.driver(), By.className("radio1"), By.className("wp-block-group"),
+                    By.tagName("a"), By.tagName("input"));
+            int byClass = counts[0] > 0 ? counts[0] : counts[1];
+            session.log("✓ Located " + byClass + " element(s) by Class Name");
+            session.screenshot("Step3_LocatedByClassName");
             
-            List<WebElement> links = chromeDriver.findElements(By.tagName("a"));
-            System.out.println("✓ Located " + links.size() + " element(s) by Tag Name: a (links)");
+            session.log("✓ Located " + counts[2] + " element(s) by Tag Name: a (links)");
             
-            List<WebElement> inputs = chromeDriver.findElements(By.tagName("input"));
-            System.out.println("✓ Located " + inputs.size() + " element(s) by Tag Name: input");
+            session.log("✓ Located " + counts[3] + " element(s) by Tag Name: input");
             
-            WebElement elementByCss = locateAndReport(By.cssSelector("input[type='radio']"), "CSS Selector: input[type='radio']", "Step3_LocatedByCSS");
+            WebElement elementByCss = locateAndReport(session, By.cssSelector("input[type='radio']"), "CSS Selector: input[type='radio']", "Step3_LocatedByCSS");
             if (elementByCss != null) {
-                System.out.println("  Element ID: " + elementByCss.getAttribute("id"));
+                session.log("  Element ID: " + elementByCss.getAttribute("id"));
             }
             
-            WebElement elementByLinkText = locateAndReport(By.linkText("Home"), "Link Text: Home", "Step3_LocatedByLinkText");
+            WebElement elementByLinkText = locateAndReport(session, By.linkText("Home"), "Link Text: Home", "Step3_LocatedByLinkText");
             if (elementByLinkText != null) {
-                System.out.println("  Link href: " + elementByLinkText.getAttribute("href"));
+                session.log("  Link href: " + elementByLinkText.getAttribute("href"));
             }
             
-            locateAndReport(By.partialLinkText("Courses"), "Partial Link Text: Courses", "Step3_LocatedByPartialLinkText");
+            locateAndReport(session, By.partialLinkText("Courses"), "Partial Link Text: Courses", "Step3_LocatedByPartialLinkText");
             
         } catch (Exception e) {
-            System.out.println("Error during element location: " + e.getMessage());
+            session.log("Error during element location: " + e.getMessage());
             e.printStackTrace();
         }
         
-        Assertions.assertNotNull(chromeDriver.getTitle());
-        System.out.println("\n✓ All element location methods demonstrated successfully!");
+        Assertions.assertNotNull(session.driver().getTitle());
+        session.log("\n✓ All element location methods demonstrated successfully!");
     }
 }
-
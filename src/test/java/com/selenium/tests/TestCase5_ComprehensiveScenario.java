@@ -1,212 +1,181 @@
 package com.selenium.tests;
 
-import java.io.File;
-import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.io.FileHandler;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import io.github.bonigarcia.wdm.WebDriverManager;
 
+@ExtendWith(SuiteLifecycleExtension.class)
 public class TestCase5_ComprehensiveScenario {
     
-    private WebDriver chromeDriver;
-    private WebDriverWait wait;
-    
-    private static final String TEST_URL = "https://www.codenboxautomationlab.com/practice/";
-    
-    private static final String SCREENSHOT_DIR = "screenshots";
+    private static final String TEST_URL = TestConfig.testUrl();
     
     @BeforeEach
     public void setUp() {
         System.out.println("Setting up drivers...");
-        File screenshotDir = new File(SCREENSHOT_DIR);
-        if (!screenshotDir.exists()) {
-            screenshotDir.mkdirs();
-            System.out.println("Created screenshots directory: " + SCREENSHOT_DIR);
-        }
-    }
-    
-    private void takeScreenshot(WebDriver driver, String stepName) {
-        try {
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
-            String fileName = SCREENSHOT_DIR + File.separator + stepName + "_" + 
-                             System.currentTimeMillis() + ".png";
-            File destinationFile = new File(fileName);
-            FileHandler.copy(sourceFile, destinationFile);
-            System.out.println("  📸 Screenshot saved: " + fileName);
-        } catch (IOException e) {
-            System.out.println("  ⚠ Failed to take screenshot: " + e.getMessage());
-        }
-    }
-    
-    @AfterEach
-    public void tearDown() {
-        if (chromeDriver != null) {
-            chromeDriver.quit();
-        }
     }
     
-    private WebElement locateElementWithWait(By locator, String description) {
-        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-        System.out.println("✓ Located " + description);
-        return element;
+    private BatchLocator.Result locateElementsWithWait(ScenarioSession session, By... locators) {
+        return session.step("locate", () -> session.waiter().until(BatchLocator.allPresent(Arrays.asList(locators))));
     }
     
-    private WebElement locateElement(By locator, String description) {
-        WebElement element = chromeDriver.findElement(locator);
-        System.out.println("✓ Located " + description);
+    private WebElement locateElement(ScenarioSession session, BatchLocator.Result located, By locator, String description) {
+        WebElement element = located.first(locator);
+        session.log("✓ Located " + description);
         return element;
     }
     
-    private void locateElementsByTag(String tagName, String description) {
-        List<WebElement> elements = chromeDriver.findElements(By.tagName(tagName));
-        System.out.println("✓ Located " + elements.size() + " " + description);
+    private void locateElementsByTag(ScenarioSession session, BatchLocator.Result located, String tagName, String description) {
+        session.log("✓ Located " + located.count(By.tagName(tagName)) + " " + description);
     }
     
-    private void interactWithRadio(WebElement radioButton, String screenshotName) {
-        System.out.println("Action 1: ✓ Radio button attributes - Type: " + radioButton.getAttribute("type") + 
-                         ", ID: " + radioButton.getAttribute("id") + ", Value: " + radioButton.getAttribute("value") + 
-                         ", Displayed: " + radioButton.isDisplayed() + ", Enabled: " + radioButton.isEnabled());
-        radioButton.click();
-        System.out.println("Action 2: ✓ Clicked radio button");
-        System.out.println("  Radio button is selected: " + radioButton.isSelected());
-        takeScreenshot(chromeDriver, screenshotName);
+    private void interactWithRadio(ScenarioSession session, WebElement radioButton, String screenshotName) {
+        session.step("interact: radio", () -> {
+            ElementSnapshot radio = ElementSnapshot.of(session.driver(), radioButton, "type", "id", "value");
+            session.log("Action 1: ✓ Radio button attributes - Type: " + radio.attribute("type") + 
+                        ", ID: " + radio.attribute("id") + ", Value: " + radio.attribute("value") + 
+                        ", Displayed: " + radio.isDisplayed() + ", Enabled: " + radio.isEnabled());
+            radioButton.click();
+            session.log("Action 2: ✓ Clicked radio button");
+            session.log("  Radio button is selected: " + radioButton.isSelected());
+            session.screenshot(screenshotName, radioButton);
+        });
     }
     
-    private void interactWithCheckbox(WebElement checkbox, String screenshotName) {
-        if (!checkbox.isSelected()) {
-            checkbox.click();
-            System.out.println("Action 3: ✓ Clicked checkbox");
-        } else {
-            System.out.println("Action 3: ✓ Checkbox already selected");
-        }
-        takeScreenshot(chromeDriver, screenshotName);
+    private void interactWithCheckbox(ScenarioSession session, WebElement checkbox, String screenshotName) {
+        session.step("interact: checkbox", () -> {
+            if (!checkbox.isSelected()) {
+                checkbox.click();
+                session.log("Action 3: ✓ Clicked checkbox");
+            } else {
+                session.log("Action 3: ✓ Checkbox already selected");
+            }
+            session.screenshot(screenshotName, checkbox);
+        });
     }
     
-    private void interactWithDropdown(WebElement dropdown, String optionToSelect, String screenshotName) {
-        Select select = new Select(dropdown);
-        List<WebElement> options = select.getOptions();
-        System.out.println("Action 4: ✓ Dropdown has " + options.size() + " options");
-        if (!options.isEmpty()) {
-            select.selectByVisibleText(optionToSelect);
-            System.out.println("  Selected option: " + select.getFirstSelectedOption().getText());
-        }
-        takeScreenshot(chromeDriver, screenshotName);
+    private void interactWithDropdown(ScenarioSession session, WebElement dropdown, String optionToSelect, String screenshotName) {
+        session.step("interact: dropdown", () -> {
+            Select select = new Select(dropdown);
+            List<WebElement> options = select.getOptions();
+            session.log("Action 4: ✓ Dropdown has " + options.size() + " options");
+            if (!options.isEmpty()) {
+                select.selectByVisibleText(optionToSelect);
+                session.log("  Selected option: " + select.getFirstSelectedOption().getText());
+            }
+            session.screenshot(screenshotName, dropdown);
+        });
     }
     
-    private void interactWithInput(WebElement input, String text, String screenshotName) {
-        input.clear();
-        input.sendKeys(text);
-        System.out.println("Action 5: ✓ Entered text in autocomplete field");
-        takeScreenshot(chromeDriver, screenshotName);
+    private void interactWithInput(ScenarioSession session, WebElement input, String text, String screenshotName) {
+        session.step("interact: input", () -> {
+            input.clear();
+            input.sendKeys(text);
+            session.log("Action 5: ✓ Entered text in autocomplete field");
+            session.screenshot(screenshotName, input);
+        });
     }
     
-    private void interactWithLink(WebElement link) {
-        System.out.println("Action 6: ✓ Link attributes - Text: " + link.getText() + ", Href: " + link.getAttribute("href"));
+    private void interactWithLink(ScenarioSession session, WebElement link) {
+        session.step("interact: link", () -> {
+            session.log("Action 6: ✓ Link attributes - Text: " + link.getText() + ", Href: " + link.getAttribute("href"));
+        });
     }
     
-    private void interactWithTable(WebElement table, String screenshotName) {
-        List<WebElement> tableRows = table.findElements(By.tagName("tr"));
-        System.out.println("Action 7: ✓ Web table has " + tableRows.size() + " rows");
-        List<WebElement> tableHeaders = table.findElements(By.tagName("th"));
-        if (!tableHeaders.isEmpty()) {
-            System.out.println("  Table headers: " + tableHeaders.get(0).getText() + ", " + 
-                             tableHeaders.get(1).getText() + ", " + tableHeaders.get(2).getText());
-        }
-        takeScreenshot(chromeDriver, screenshotName);
+    private void interactWithTable(ScenarioSession session, WebElement table, String screenshotName) {
+        session.step("interact: table", () -> {
+            WebTable data = WebTable.read(session.driver(), table);
+            session.log("Action 7: ✓ Web table has " + data.rowCount() + " data rows");
+            if (!data.headers().isEmpty()) {
+                session.log("  Table headers: " + String.join(", ", data.headers()));
+            }
+            session.screenshot(screenshotName, table);
+        });
     }
     
-    private void scrollToElement(WebElement element, String screenshotName) {
-        ((JavascriptExecutor) chromeDriver).executeScript("arguments[0].scrollIntoView(true);", element);
-        System.out.println("Action 12: ✓ Scrolled to table element");
-        takeScreenshot(chromeDriver, screenshotName);
+    private void scrollToElement(ScenarioSession session, WebElement element, String screenshotName) {
+        session.step("interact: scroll", () -> {
+            ((JavascriptExecutor) session.driver()).executeScript("arguments[0].scrollIntoView(true);", element);
+            session.log("Action 12: ✓ Scrolled to table element");
+            session.screenshot(screenshotName, element);
+        });
     }
     
     @Test
     @DisplayName("Comprehensive Usability and Functionality Test")
     public void testComprehensiveScenario() {
         System.out.println("\n=== Test Case 5: Comprehensive Usability and Functionality Test ===");
+        ScenarioEngine.run("Test Case 5", Duration.ofSeconds(15), this::runScenario);
+    }
+    
+    private void runScenario(ScenarioSession session) {
+        WebDriver driver = session.driver();
+        String browserName = session.browser().displayName();
         
-        System.out.println("\n--- Step 1: Download Selenium Driver and Create Instance ---");
-        WebDriverManager.chromedriver().setup();
-        System.out.println("✓ Chrome driver downloaded using WebDriverManager");
-        
-        ChromeOptions chromeOptions = new ChromeOptions();
-        chromeOptions.addArguments("--start-maximized");
-        chromeDriver = new ChromeDriver(chromeOptions);
-        chromeDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        wait = new WebDriverWait(chromeDriver, Duration.ofSeconds(15));
-        System.out.println("✓ Chrome driver instance created and configured");
-        takeScreenshot(chromeDriver, "Step1_DriverInstanceCreated");
+        session.log("\n--- Step 1: Download Selenium Driver and Create Instance ---");
+        session.log("✓ " + browserName + " driver resolved using WebDriverManager");
+        session.log("✓ " + browserName + " driver instance created and configured");
+        session.screenshot("Step1_DriverInstanceCreated");
         
         try {
-            System.out.println("\n--- Step 2: Navigate to Website ---");
-            chromeDriver.get(TEST_URL);
-            System.out.println("✓ Navigated to: " + TEST_URL);
-            takeScreenshot(chromeDriver, "Step2_NavigatedToWebsite");
-            
-            Thread.sleep(2000);
+            session.log("\n--- Step 2: Navigate to Website ---");
+            PageReset.open(driver, TEST_URL);
+            session.log("✓ Navigated to: " + TEST_URL);
+            session.screenshot("Step2_NavigatedToWebsite");
             
-            String title = chromeDriver.getTitle();
-            System.out.println("✓ Page title: " + title);
+            String title = driver.getTitle();
+            session.log("✓ Page title: " + title);
             Assertions.assertNotNull(title);
             Assertions.assertFalse(title.isEmpty());
             
-            System.out.println("\n--- Step 3: Locate Elements Using By Class ---");
-            WebElement radioButton = locateElementWithWait(By.name("radioButton"), "radio button using By.name('radioButton')");
-            WebElement checkbox = locateElement(By.id("checkBoxOption1"), "checkbox using By.id('checkBoxOption1')");
-            WebElement dropdown = locateElement(By.id("dropdown-class-example"), "dropdown using By.id('dropdown-class-example')");
-            WebElement tableElement = locateElement(By.id("product"), "table using By.id('product')");
-            WebElement autocomplete = locateElement(By.id("autocomplete"), "autocomplete using By.id('autocomplete')");
-            locateElementsByTag("input", "input elements using By.tagName('input')");
-            locateElementsByTag("a", "link elements using By.tagName('a')");
-            WebElement homeLink = locateElement(By.linkText("Home"), "link using By.linkText('Home')");
-            takeScreenshot(chromeDriver, "Step3_LocatedAllElements");
-            
-            System.out.println("\n--- Step 4: Perform Actions on Located Web Elements ---");
-            interactWithRadio(radioButton, "Step4_Action2_ClickedRadio");
-            interactWithCheckbox(checkbox, "Step4_Action3_CheckboxInteraction");
-            interactWithDropdown(dropdown, "Selenium", "Step4_Action4_DropdownSelected");
-            interactWithInput(autocomplete, "Canada", "Step4_Action5_Autocomplete");
-            interactWithLink(homeLink);
-            interactWithTable(tableElement, "Step4_Action7_TableInfo");
+            session.log("\n--- Step 3: Locate Elements Using By Class ---");
+            BatchLocator.Result located = locateElementsWithWait(session, By.name("radioButton"), By.id("checkBoxOption1"),
+                    By.id("dropdown-class-example"), By.id("product"), By.id("autocomplete"),
+                    By.tagName("input"), By.tagName("a"), By.linkText("Home"));
+            WebElement radioButton = locateElement(session, located, By.name("radioButton"), "radio button using By.name('radioButton')");
+            WebElement checkbox = locateElement(session, located, By.id("checkBoxOption1"), "checkbox using By.id('checkBoxOption1')");
+            WebElement dropdown = locateElement(session, located, By.id("dropdown-class-example"), "dropdown using By.id('dropdown-class-example')");
+            WebElement tableElement = locateElement(session, located, By.id("product"), "table using By.id('product')");
+            WebElement autocomplete = locateElement(session, located, By.id("autocomplete"), "autocomplete using By.id('autocomplete')");
+            locateElementsByTag(session, located, "input", "input elements using By.tagName('input')");
+            locateElementsByTag(session, located, "a", "link elements using By.tagName('a')");
+            WebElement homeLink = locateElement(session, located, By.linkText("Home"), "link using By.linkText('Home')");
+            session.screenshot("Step3_LocatedAllElements");
             
-            System.out.println("Action 9: ✓ Current URL: " + chromeDriver.getCurrentUrl());
-            System.out.println("Action 10: ✓ Page source length: " + chromeDriver.getPageSource().length() + " characters");
-            org.openqa.selenium.Dimension windowSize = chromeDriver.manage().window().getSize();
-            System.out.println("Action 11: ✓ Window size - Width: " + windowSize.getWidth() + ", Height: " + windowSize.getHeight());
+            session.log("\n--- Step 4: Perform Actions on Located Web Elements ---");
+            interactWithRadio(session, radioButton, "Step4_Action2_ClickedRadio");
+            interactWithCheckbox(session, checkbox, "Step4_Action3_CheckboxInteraction");
+            interactWithDropdown(session, dropdown, "Selenium", "Step4_Action4_DropdownSelected");
+            interactWithInput(session, autocomplete, "Canada", "Step4_Action5_Autocomplete");
+            interactWithLink(session, homeLink);
+            interactWithTable(session, tableElement, "Step4_Action7_TableInfo");
             
-            scrollToElement(tableElement, "Step4_Action12_ScrolledToTable");
+            session.log("Action 9: ✓ Current URL: " + driver.getCurrentUrl());
+            session.log("Action 10: ✓ Page source length: " + DomSnapshot.of(driver).pageSource().length() + " characters");
+            org.openqa.selenium.Dimension windowSize = driver.manage().window().getSize();
+            session.log("Action 11: ✓ Window size - Width: " + windowSize.getWidth() + ", Height: " + windowSize.getHeight());
             
-            System.out.println("\n✓ All usability and functionality checks completed successfully!");
-            takeScreenshot(chromeDriver, "Step4_FinalResult");
+            scrollToElement(session, tableElement, "Step4_Action12_ScrolledToTable");
             
+            session.log("\n✓ All usability and functionality checks completed successfully!");
+            session.screenshot("Step4_FinalResult");
+        
         } catch (Exception e) {
-            System.out.println("Error in comprehensive test: " + e.getMessage());
+            session.log("Error in comprehensive test: " + e.getMessage());
             e.printStackTrace();
-            takeScreenshot(chromeDriver, "Step4_Error");
+            session.failureScreenshot("Step4_Error");
         }
         
-        Assertions.assertNotNull(chromeDriver.getTitle());
+        Assertions.assertNotNull(driver.getTitle());
     }
 }
-
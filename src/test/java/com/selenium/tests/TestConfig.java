@@ -0,0 +1,65 @@
+package com.selenium.tests;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+public final class TestConfig {
+    
+    public static final String LIVE_URL = "https://www.codenboxautomationlab.com/practice/";
+    
+    private static final String RUN_ID = "run-" + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date());
+    
+    private TestConfig() {
+    }
+    
+    public static String runId() {
+        return RUN_ID;
+    }
+    
+    public static String testUrl() {
+        String site = stringProperty("test.site", "live");
+        if ("fixture".equalsIgnoreCase(site)) {
+            return FixtureServer.shared().url(FixtureServer.PRACTICE_PATH);
+        }
+        if (!"live".equalsIgnoreCase(site)) {
+            System.out.println("⚠ Unknown test.site '" + site + "', using live site");
+        }
+        return LIVE_URL;
+    }
+    
+    public static String stringProperty(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+    
+    public static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("⚠ Invalid value for " + name + ": '" + value + "', using " + defaultValue);
+            return defaultValue;
+        }
+    }
+    
+    public static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("⚠ Invalid value for " + name + ": '" + value + "', using " + defaultValue);
+            return defaultValue;
+        }
+    }
+    
+    public static boolean booleanProperty(String name, boolean defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.trim().isEmpty() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+}
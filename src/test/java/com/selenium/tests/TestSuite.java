@@ -10,11 +10,8 @@ import org.junit.platform.suite.api.SuiteDisplayName;
     TestCase1_ChromeDriverSetup.class,
     TestCase2_FirefoxDriverSetup.class,
     TestCase3_ElementLocation.class,
-    TestCase3_ElementLocationFirefox.class,
     TestCase4_ElementActions.class,
-    TestCase4_ElementActionsFirefox.class,
-    TestCase5_ComprehensiveScenario.class,
-    TestCase5_ComprehensiveScenarioFirefox.class
+    TestCase5_ComprehensiveScenario.class
 })
 public class TestSuite {
 }
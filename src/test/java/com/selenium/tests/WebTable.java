@@ -0,0 +1,125 @@
+package com.selenium.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * In-memory copy of an HTML table, extracted with one script call. The first row made only
+ * of {@code th} cells becomes the header; every other row is data. Cell text is stored per
+ * column, so scanning or filtering a column touches a single array even for large tables.
+ */
+public final class WebTable {
+    
+    private static final String EXTRACT_SCRIPT =
+        "var rows = arguments[0].rows, headers = null, columns = [], rowCount = 0;" +
+        "function text(cell) { return (cell.textContent || '').replace(/\\s+/g, ' ').trim(); }" +
+        "for (var r = 0; r < rows.length; r++) {" +
+        "  var cells = rows[r].cells;" +
+        "  if (cells.length === 0) { continue; }" +
+        "  var allTh = true;" +
+        "  for (var c = 0; c < cells.length; c++) { if (cells[c].tagName !== 'TH') { allTh = false; break; } }" +
+        "  if (allTh && headers === null && rowCount === 0) {" +
+        "    headers = [];" +
+        "    for (var h = 0; h < cells.length; h++) { headers.push(text(cells[h])); }" +
+        "    continue;" +
+        "  }" +
+        "  for (var c = 0; c < Math.max(cells.length, columns.length); c++) {" +
+        "    if (!columns[c]) { columns[c] = []; for (var p = 0; p < rowCount; p++) { columns[c].push(''); } }" +
+        "    columns[c].push(c < cells.length ? text(cells[c]) : '');" +
+        "  }" +
+        "  rowCount++;" +
+        "}" +
+        "return { headers: headers || [], columns: columns, rowCount: rowCount };";
+    
+    private final List<String> headers;
+    private final String[][] columns;
+    private final int rowCount;
+    
+    private WebTable(List<String> headers, String[][] columns, int rowCount) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+    
+    public static WebTable read(WebDriver driver, WebElement table) {
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(EXTRACT_SCRIPT, table);
+        int rowCount = ((Number) result.get("rowCount")).intValue();
+        List<?> rawColumns = (List<?>) result.get("columns");
+        List<String> headers = new ArrayList<>();
+        for (Object header : (List<?>) result.get("headers")) {
+            headers.add(String.valueOf(header));
+        }
+        int columnCount = Math.max(headers.size(), rawColumns.size());
+        while (headers.size() < columnCount) {
+            headers.add("");
+        }
+        String[][] columns = new String[columnCount][];
+        for (int c = 0; c < columnCount; c++) {
+            columns[c] = new String[rowCount];
+            List<?> values = c < rawColumns.size() ? (List<?>) rawColumns.get(c) : Collections.emptyList();
+            for (int r = 0; r < rowCount; r++) {
+                columns[c][r] = r < values.size() ? String.valueOf(values.get(r)) : "";
+            }
+        }
+        return new WebTable(Collections.unmodifiableList(headers), columns, rowCount);
+    }
+    
+    public int rowCount() {
+        return rowCount;
+    }
+    
+    public int columnCount() {
+        return columns.length;
+    }
+    
+    public List<String> headers() {
+        return headers;
+    }
+    
+    public int columnIndex(String header) {
+        int index = headers.indexOf(header);
+        if (index < 0) {
+            throw new IllegalArgumentException("No column '" + header + "' in " + headers);
+        }
+        return index;
+    }
+    
+    public List<String> column(String header) {
+        return Collections.unmodifiableList(Arrays.asList(columns[columnIndex(header)]));
+    }
+    
+    public String cell(int row, int column) {
+        return columns[column][row];
+    }
+    
+    public String cell(int row, String header) {
+        return cell(row, columnIndex(header));
+    }
+    
+    public List<String> row(int row) {
+        List<String> values = new ArrayList<>(columns.length);
+        for (String[] column : columns) {
+            values.add(column[row]);
+        }
+        return values;
+    }
+    
+    public List<Integer> rowsWhere(String header, Predicate<String> condition) {
+        String[] column = columns[columnIndex(header)];
+        List<Integer> matches = new ArrayList<>();
+        for (int r = 0; r < rowCount; r++) {
+            if (condition.test(column[r])) {
+                matches.add(r);
+            }
+        }
+        return matches;
+    }
+}
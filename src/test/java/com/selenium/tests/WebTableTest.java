@@ -0,0 +1,79 @@
+package com.selenium.tests;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+public class WebTableTest {
+    
+    @Test
+    @DisplayName("Columns are read by header name")
+    public void testColumn() {
+        WebTable table = WebTable.read(driver(courses()), null);
+        
+        Assertions.assertEquals(3, table.rowCount());
+        Assertions.assertEquals(Arrays.asList("Instructor", "Course", "Price"), table.headers());
+        Assertions.assertEquals(Arrays.asList("Selenium", "Appium", "WebServices"), table.column("Course"));
+        Assertions.assertEquals("25", table.cell(1, "Price"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> table.column("Course").set(0, "x"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> table.column("Duration"));
+    }
+    
+    @Test
+    @DisplayName("rowsWhere returns the indexes of matching rows in order")
+    public void testRowsWhere() {
+        WebTable table = WebTable.read(driver(courses()), null);
+        
+        Assertions.assertEquals(Arrays.asList(1, 2), table.rowsWhere("Price", price -> price.equals("25")));
+        Assertions.assertEquals(Collections.singletonList(0), table.rowsWhere("Course", course -> course.startsWith("Sel")));
+        Assertions.assertTrue(table.rowsWhere("Instructor", String::isEmpty).isEmpty());
+        Assertions.assertEquals(Arrays.asList("Rahul", "WebServices", "25"), table.row(2));
+    }
+    
+    @Test
+    @DisplayName("Missing headers and short columns are padded with empty strings")
+    public void testPadding() {
+        Map<String, Object> result = result(Collections.singletonList("Name"),
+                Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("1")), 2);
+        WebTable table = WebTable.read(driver(result), null);
+        
+        Assertions.assertEquals(2, table.columnCount());
+        Assertions.assertEquals(Arrays.asList("Name", ""), table.headers());
+        Assertions.assertEquals(Arrays.asList("1", ""), table.column(""));
+    }
+    
+    private static Map<String, Object> courses() {
+        return result(Arrays.asList("Instructor", "Course", "Price"),
+                Arrays.asList(Arrays.asList("Rahul", "Rahul", "Rahul"),
+                              Arrays.asList("Selenium", "Appium", "WebServices"),
+                              Arrays.asList("30", "25", "25")), 3);
+    }
+    
+    private static Map<String, Object> result(List<String> headers, List<List<String>> columns, long rowCount) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("headers", headers);
+        result.put("columns", columns);
+        result.put("rowCount", rowCount);
+        return result;
+    }
+    
+    private static WebDriver driver(Map<String, Object> scriptResult) {
+        return (WebDriver) Proxy.newProxyInstance(WebTableTest.class.getClassLoader(),
+                new Class<?>[] {WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> {
+                    if ("executeScript".equals(method.getName())) {
+                        return scriptResult;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}